@@ -4,12 +4,12 @@
 rm -rf build
 mkdir -p build/classes build/docs build/jar
 
-javac -d build/classes src/main/java/ru/nsu/g/stubarev/heapsort/*.java
+javac --add-modules jdk.incubator.vector -d build/classes src/main/java/ru/nsu/g/stubarev/heapsort/*.java src/main/java/ru/nsu/g/stubarev/heapsort/exceptions/*.java
 
-javadoc -d build/docs -sourcepath src/main/java -subpackages ru.nsu.g.stubarev.heapsort
+javadoc --add-modules jdk.incubator.vector -d build/docs -sourcepath src/main/java -subpackages ru.nsu.g.stubarev.heapsort
 
 jar -cf build/jar/heapsort.jar -C build/classes .
 
 mkdir -p build/test-classes
-javac -d build/test-classes -cp "build/classes:lib/*" src/test/java/ru/nsu/g/stubarev/heapsort/*.java
-java -cp "build/test-classes:build/classes:lib/*" org.junit.platform.console.ConsoleLauncher -c ru.nsu.g.stubarev.heapsort.SortTest
\ No newline at end of file
+javac --add-modules jdk.incubator.vector -d build/test-classes -cp "build/classes:lib/*" src/test/java/ru/nsu/g/stubarev/heapsort/*.java
+java --add-modules jdk.incubator.vector -cp "build/test-classes:build/classes:lib/*" org.junit.platform.console.ConsoleLauncher -c ru.nsu.g.stubarev.heapsort.SortTest
\ No newline at end of file
@@ -0,0 +1,64 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Сравнение арности кучи по размерам массива, от помещающихся в L1 до намного
+ * больших L3, чтобы найти размер, с которого 4-арная куча обгоняет двоичную.
+ * Результат в наносекундах на элемент выводит счётчик elements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class AritySortBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"2", "4", "8"})
+    public int arity;
+
+    @Param({"RANDOM"})
+    public InputShape shape;
+
+    private int[] source;
+    private int[] work;
+
+    /**
+     * Генерирует исходный массив один раз на прогон.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = shape.generate(size, 42);
+        work = new int[size];
+    }
+
+    /**
+     * Сортировка на куче заданной арности.
+     *
+     * @param counter счётчик элементов
+     * @return отсортированный массив
+     */
+    @Benchmark
+    public int[] heapSort(SortBenchmark.Elements counter) {
+        System.arraycopy(source, 0, work, 0, size);
+        counter.elements += size;
+        Sort.sortDary(work, arity);
+        return work;
+    }
+}
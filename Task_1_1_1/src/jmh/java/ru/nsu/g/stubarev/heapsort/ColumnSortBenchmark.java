@@ -0,0 +1,115 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Совместная сортировка колонок против argsort с последующей сборкой колонок.
+ * Партия состоит из ключей int и трёх колонок: long, double и int.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class ColumnSortBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "FEW_DISTINCT"})
+    public InputShape shape;
+
+    private int[] sourceKeys;
+    private long[] sourceLongs;
+    private double[] sourceDoubles;
+    private int[] sourceInts;
+
+    private int[] keys;
+    private long[] longs;
+    private double[] doubles;
+    private int[] ints;
+
+    private int[] indices;
+    private int[] gatheredKeys;
+    private long[] gatheredLongs;
+    private double[] gatheredDoubles;
+    private int[] gatheredInts;
+
+    /**
+     * Генерирует исходную партию.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        sourceKeys = shape.generate(size, 42);
+        sourceLongs = new long[size];
+        sourceDoubles = new double[size];
+        sourceInts = new int[size];
+        for (int i = 0; i < size; i++) {
+            sourceLongs[i] = i * 31L;
+            sourceDoubles[i] = i * 0.5;
+            sourceInts[i] = -i;
+        }
+        keys = new int[size];
+        longs = new long[size];
+        doubles = new double[size];
+        ints = new int[size];
+        indices = new int[size];
+        gatheredKeys = new int[size];
+        gatheredLongs = new long[size];
+        gatheredDoubles = new double[size];
+        gatheredInts = new int[size];
+    }
+
+    /**
+     * Восстанавливает исходную партию перед каждым вызовом.
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(sourceKeys, 0, keys, 0, size);
+        System.arraycopy(sourceLongs, 0, longs, 0, size);
+        System.arraycopy(sourceDoubles, 0, doubles, 0, size);
+        System.arraycopy(sourceInts, 0, ints, 0, size);
+    }
+
+    /**
+     * Перестановка колонок при каждом обмене ключей.
+     *
+     * @return отсортированные ключи
+     */
+    @Benchmark
+    public int[] columnSort() {
+        Sort.columns(keys).payload(longs).payload(doubles).payload(ints).sort();
+        return keys;
+    }
+
+    /**
+     * Сортировка индексов и сборка всех колонок по перестановке.
+     *
+     * @return собранные ключи
+     */
+    @Benchmark
+    public int[] argsortThenGather() {
+        Sort.argsort(keys, indices, false);
+        for (int i = 0; i < size; i++) {
+            int row = indices[i];
+            gatheredKeys[i] = keys[row];
+            gatheredLongs[i] = longs[row];
+            gatheredDoubles[i] = doubles[row];
+            gatheredInts[i] = ints[row];
+        }
+        return gatheredKeys;
+    }
+}
@@ -0,0 +1,65 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.Random;
+
+/**
+ * Формы входных данных, на которых измеряются сортировки.
+ */
+public enum InputShape {
+    RANDOM {
+        @Override
+        void fill(int[] array, Random random) {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = random.nextInt();
+            }
+        }
+    },
+    SORTED {
+        @Override
+        void fill(int[] array, Random random) {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = i;
+            }
+        }
+    },
+    REVERSE_SORTED {
+        @Override
+        void fill(int[] array, Random random) {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = array.length - i;
+            }
+        }
+    },
+    FEW_DISTINCT {
+        @Override
+        void fill(int[] array, Random random) {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = random.nextInt(16);
+            }
+        }
+    },
+    SAWTOOTH {
+        @Override
+        void fill(int[] array, Random random) {
+            int tooth = Math.max(1, (int) Math.sqrt(array.length));
+            for (int i = 0; i < array.length; i++) {
+                array[i] = i % tooth;
+            }
+        }
+    };
+
+    abstract void fill(int[] array, Random random);
+
+    /**
+     * Создаёт массив заданного размера с данными этой формы.
+     *
+     * @param size размер массива
+     * @param seed зерно генератора случайных чисел
+     * @return заполненный массив
+     */
+    public int[] generate(int size, long seed) {
+        int[] array = new int[size];
+        fill(array, new Random(seed));
+        return array;
+    }
+}
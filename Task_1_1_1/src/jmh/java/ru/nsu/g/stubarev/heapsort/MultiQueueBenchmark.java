@@ -0,0 +1,92 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Конкурентный бенчмарк очередей с приоритетом: каждая операция — вставка и извлечение.
+ * Число потоков задаётся параметром JMH -t, по умолчанию используются все процессоры.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class MultiQueueBenchmark {
+
+    @Param({"100000"})
+    public int prefill;
+
+    private ConcurrentMultiQueue multiQueue;
+    private LongHeap lockedHeap;
+    private PriorityBlockingQueue<Long> blockingQueue;
+
+    /**
+     * Заполняет очереди перед каждой итерацией.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        multiQueue = new ConcurrentMultiQueue();
+        lockedHeap = new LongHeap(prefill);
+        blockingQueue = new PriorityBlockingQueue<>(prefill);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < prefill; i++) {
+            long value = random.nextLong();
+            multiQueue.offer(value);
+            lockedHeap.push(value);
+            blockingQueue.add(value);
+        }
+    }
+
+    /**
+     * MultiQueue из независимо заблокированных куч.
+     *
+     * @return извлечённый элемент
+     */
+    @Benchmark
+    public long multiQueue() {
+        multiQueue.offer(ThreadLocalRandom.current().nextLong());
+        return multiQueue.poll(0);
+    }
+
+    /**
+     * Одна куча под общей блокировкой.
+     *
+     * @return извлечённый элемент
+     */
+    @Benchmark
+    public long lockedHeap() {
+        long value = ThreadLocalRandom.current().nextLong();
+        synchronized (lockedHeap) {
+            lockedHeap.push(value);
+            return lockedHeap.pop();
+        }
+    }
+
+    /**
+     * Базовая линия: PriorityBlockingQueue.
+     *
+     * @return извлечённый элемент
+     */
+    @Benchmark
+    public Long priorityBlockingQueue() {
+        blockingQueue.add(ThreadLocalRandom.current().nextLong());
+        return blockingQueue.poll();
+    }
+}
@@ -0,0 +1,100 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Подбор порогов Sort.RADIX_THRESHOLD и Sort.LONG_RADIX_THRESHOLD: пирамидальная
+ * сортировка против поразрядной с новым {@link RadixSorter} на каждый вызов,
+ * как в Sort.autoSort и устойчивой сортировке. Числа long упакованы так же,
+ * как в {@link StableSort}: ключ в старших битах, индекс в младших.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RadixThresholdBenchmark {
+
+    @Param({"64", "96", "128", "192", "256", "384", "512", "768", "1024"})
+    public int size;
+
+    private int[] source;
+    private int[] work;
+    private long[] packedSource;
+    private long[] packedWork;
+
+    /**
+     * Генерирует исходные массивы.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = InputShape.RANDOM.generate(size, 42);
+        work = new int[size];
+        packedSource = new long[size];
+        for (int i = 0; i < size; i++) {
+            packedSource[i] = (long) source[i] << Integer.SIZE | i;
+        }
+        packedWork = new long[size];
+    }
+
+    /**
+     * Пирамидальная сортировка int.
+     *
+     * @return отсортированный массив
+     */
+    @Benchmark
+    public int[] intHeap() {
+        System.arraycopy(source, 0, work, 0, size);
+        Sort.heapSort(work, 0, size);
+        return work;
+    }
+
+    /**
+     * Поразрядная сортировка int.
+     *
+     * @return отсортированный массив
+     */
+    @Benchmark
+    public int[] intRadix() {
+        System.arraycopy(source, 0, work, 0, size);
+        new RadixSorter().sort(work);
+        return work;
+    }
+
+    /**
+     * Пирамидальная сортировка упакованных long.
+     *
+     * @return отсортированный массив
+     */
+    @Benchmark
+    public long[] longHeap() {
+        System.arraycopy(packedSource, 0, packedWork, 0, size);
+        PrimitiveHeapSort.sort(packedWork, 0, size);
+        return packedWork;
+    }
+
+    /**
+     * Поразрядная сортировка упакованных long.
+     *
+     * @return отсортированный массив
+     */
+    @Benchmark
+    public long[] longRadix() {
+        System.arraycopy(packedSource, 0, packedWork, 0, size);
+        new RadixSorter().sort(packedWork);
+        return packedWork;
+    }
+}
@@ -0,0 +1,149 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Сортировка коротких блоков: сортирующая сеть против пирамидальной сортировки
+ * и сортировки вставками. Скалярный и векторный варианты сети замеряются
+ * отдельно; векторный требует --add-modules jdk.incubator.vector.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SmallBlockBenchmark {
+
+    @Param({"8", "16", "32", "64"})
+    public int size;
+
+    @Param({"RANDOM", "FEW_DISTINCT"})
+    public InputShape shape;
+
+    private int[] source;
+    private int[] work;
+
+    /**
+     * Генерирует исходный блок.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = shape.generate(size, 42);
+        work = new int[size];
+    }
+
+    /**
+     * Сортирующая сеть в том варианте, который выбирает Sort.heapSort.
+     *
+     * @return отсортированный блок
+     */
+    @Benchmark
+    public int[] network() {
+        System.arraycopy(source, 0, work, 0, size);
+        SortingNetwork.sort(work, 0, size);
+        return work;
+    }
+
+    /**
+     * Скалярная сортирующая сеть.
+     *
+     * @return отсортированный блок
+     */
+    @Benchmark
+    public int[] scalarNetwork() {
+        System.arraycopy(source, 0, work, 0, size);
+        SortingNetwork.sortScalar(work, 0, size);
+        return work;
+    }
+
+    /**
+     * Сортирующая сеть на Vector API.
+     *
+     * @return отсортированный блок
+     */
+    @Benchmark
+    public int[] vectorNetwork() {
+        System.arraycopy(source, 0, work, 0, size);
+        VectorSortingNetwork.sort(work, 0, size);
+        return work;
+    }
+
+    /**
+     * Пирамидальная сортировка без базового случая, как Sort.sort до появления сети.
+     *
+     * @return отсортированный блок
+     */
+    @Benchmark
+    public int[] heapSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        plainHeapSort(work, size);
+        return work;
+    }
+
+    /**
+     * Сортировка вставками.
+     *
+     * @return отсортированный блок
+     */
+    @Benchmark
+    public int[] insertion() {
+        System.arraycopy(source, 0, work, 0, size);
+        AdaptiveSort.insertionSort(work, 0, size);
+        return work;
+    }
+
+    /**
+     * Копия цикла Sort.heapSort без сети для коротких отрезков и без подсчёта сравнений.
+     */
+    private static void plainHeapSort(int[] array, int len) {
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(array, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            int temp = array[0];
+            array[0] = array[i];
+            array[i] = temp;
+
+            heapify(array, i, 0);
+        }
+    }
+
+    private static void heapify(int[] array, int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len && array[leftChild] > array[largest]) {
+                largest = leftChild;
+            }
+            if (rightChild < len && array[rightChild] > array[largest]) {
+                largest = rightChild;
+            }
+            if (largest == cur) {
+                break;
+            }
+            int temp = array[cur];
+            array[cur] = array[largest];
+            array[largest] = temp;
+
+            cur = largest;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарк Sort.sort в сравнении с Arrays.sort и Arrays.parallelSort.
+ * Каждый вызов копирует исходные данные в рабочий массив, стоимость копирования
+ * отдельно измеряет бенчмарк copyOnly. Счётчик elements выводится в тех же единицах,
+ * что и основной результат, то есть в наносекундах на элемент.
+ * Скорость выделения памяти выводит профилировщик gc, который включает задача gradle jmh.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class SortBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "FEW_DISTINCT", "SAWTOOTH"})
+    public InputShape shape;
+
+    private int[] source;
+    private int[] work;
+    private final RadixSorter radixSorter = new RadixSorter();
+
+    /**
+     * Счётчик обработанных элементов.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Elements {
+        public long elements;
+
+        /**
+         * Обнуляет счётчик перед каждой итерацией.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            elements = 0;
+        }
+    }
+
+    /**
+     * Генерирует исходный массив один раз на прогон.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = shape.generate(size, 42);
+        work = new int[size];
+    }
+
+    private int[] prepare(Elements counter) {
+        System.arraycopy(source, 0, work, 0, size);
+        counter.elements += size;
+        return work;
+    }
+
+    /**
+     * Только копирование данных, без сортировки.
+     *
+     * @param counter счётчик элементов
+     * @return рабочий массив
+     */
+    @Benchmark
+    public int[] copyOnly(Elements counter) {
+        return prepare(counter);
+    }
+
+    /**
+     * Пирамидальная сортировка.
+     *
+     * @param counter счётчик элементов
+     * @return отсортированный массив
+     */
+    @Benchmark
+    public int[] heapSort(Elements counter) {
+        int[] array = prepare(counter);
+        Sort.sort(array);
+        return array;
+    }
+
+    /**
+     * Параллельная пирамидальная сортировка.
+     *
+     * @param counter счётчик элементов
+     * @return отсортированный массив
+     */
+    @Benchmark
+    public int[] heapParallelSort(Elements counter) {
+        int[] array = prepare(counter);
+        Sort.parallelSort(array);
+        return array;
+    }
+
+    /**
+     * Адаптивная сортировка с определением упорядоченности.
+     *
+     * @param counter счётчик элементов
+     * @return отсортированный массив
+     */
+    @Benchmark
+    public int[] adaptiveSort(Elements counter) {
+        int[] array = prepare(counter);
+        Sort.adaptiveSort(array);
+        return array;
+    }
+
+    /**
+     * Поразрядная сортировка с переиспользуемым буфером.
+     *
+     * @param counter счётчик элементов
+     * @return отсортированный массив
+     */
+    @Benchmark
+    public int[] radixSort(Elements counter) {
+        int[] array = prepare(counter);
+        radixSorter.sort(array);
+        return array;
+    }
+
+    /**
+     * Базовая линия: Arrays.sort.
+     *
+     * @param counter счётчик элементов
+     * @return отсортированный массив
+     */
+    @Benchmark
+    public int[] arraysSort(Elements counter) {
+        int[] array = prepare(counter);
+        Arrays.sort(array);
+        return array;
+    }
+
+    /**
+     * Базовая линия: Arrays.parallelSort.
+     *
+     * @param counter счётчик элементов
+     * @return отсортированный массив
+     */
+    @Benchmark
+    public int[] arraysParallelSort(Elements counter) {
+        int[] array = prepare(counter);
+        Arrays.parallelSort(array);
+        return array;
+    }
+}
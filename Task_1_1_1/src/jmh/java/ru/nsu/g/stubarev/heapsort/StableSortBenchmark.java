@@ -0,0 +1,107 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Цена устойчивости. Для объектов — упаковка ключа и индекса в long против обычной
+ * неустойчивой пирамидальной сортировки, для argsort — сравнение с учётом индекса
+ * против сравнения только ключей. Расход памяти виден в профиле gc
+ * (gc.alloc.rate.norm), который задача jmh включает по умолчанию.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class StableSortBenchmark {
+
+    @Param({"256", "100000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM", "FEW_DISTINCT"})
+    public InputShape shape;
+
+    private Integer[] sourceItems;
+    private Integer[] items;
+    private int[] keys;
+    private int[] indices;
+
+    /**
+     * Генерирует исходные данные.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = shape.generate(size, 42);
+        sourceItems = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            sourceItems[i] = keys[i];
+        }
+        items = new Integer[size];
+        indices = new int[size];
+    }
+
+    /**
+     * Восстанавливает исходный порядок объектов перед каждым вызовом.
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(sourceItems, 0, items, 0, size);
+    }
+
+    /**
+     * Неустойчивая сортировка объектов по ключу.
+     *
+     * @return отсортированные объекты
+     */
+    @Benchmark
+    public Integer[] unstableByKey() {
+        Sort.sortByInt(items, Integer::intValue);
+        return items;
+    }
+
+    /**
+     * Устойчивая сортировка объектов через упакованные ключи.
+     *
+     * @return отсортированные объекты
+     */
+    @Benchmark
+    public Integer[] stableByKey() {
+        Sort.stableSortByInt(items, Integer::intValue);
+        return items;
+    }
+
+    /**
+     * Неустойчивая перестановка индексов.
+     *
+     * @return перестановка
+     */
+    @Benchmark
+    public int[] unstableArgsort() {
+        Sort.argsort(keys, indices, false);
+        return indices;
+    }
+
+    /**
+     * Устойчивая перестановка индексов: при равных ключах сравниваются индексы.
+     *
+     * @return перестановка
+     */
+    @Benchmark
+    public int[] stableArgsort() {
+        Sort.argsort(keys, indices, true);
+        return indices;
+    }
+}
@@ -0,0 +1,165 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.SplittableRandom;
+import ru.nsu.g.stubarev.heapsort.AdaptiveSortStats.Strategy;
+
+/**
+ * Адаптивная сортировка: сначала оценивает упорядоченность массива, затем выбирает
+ * сортировку вставками, слияние серий или пирамидальную сортировку.
+ * Сортировка вставками на большом массиве ограничена числом сдвигов порядка n log n,
+ * и если данные оказались хуже оценки, работа продолжается пирамидальной сортировкой.
+ */
+final class AdaptiveSort {
+    static final int INSERTION_THRESHOLD = 32;
+    static final int MIN_AVERAGE_RUN = 32;
+    static final int INVERSION_SAMPLES = 256;
+
+    private AdaptiveSort() {
+    }
+
+    static AdaptiveSortStats sort(int[] array) {
+        int len = array.length;
+        if (len <= INSERTION_THRESHOLD) {
+            insertionSort(array, 0, len);
+            return new AdaptiveSortStats(Strategy.INSERTION, 0, 0, 0);
+        }
+
+        int maxRuns = len / MIN_AVERAGE_RUN;
+        int[] runStarts = new int[maxRuns + 2];
+        int runs = findRuns(array, runStarts, maxRuns);
+        if (runs <= maxRuns) {
+            mergeRuns(array, runStarts, runs);
+            return new AdaptiveSortStats(Strategy.RUN_MERGE, runs, 0, 0);
+        }
+
+        int inversions = sampleInversions(array);
+        if (inversions == 0) {
+            long budget = (long) len * (64 - Long.numberOfLeadingZeros(len));
+            if (boundedInsertionSort(array, budget)) {
+                return new AdaptiveSortStats(Strategy.INSERTION, runs, INVERSION_SAMPLES, 0);
+            }
+        }
+        Sort.heapSort(array, 0, len);
+        return new AdaptiveSortStats(Strategy.HEAPSORT, runs, INVERSION_SAMPLES, inversions);
+    }
+
+    /**
+     * Находит серии и разворачивает строго убывающие. В runStarts записывает
+     * начала серий и в конце длину массива. Останавливается, когда серий больше maxRuns.
+     */
+    private static int findRuns(int[] array, int[] runStarts, int maxRuns) {
+        int len = array.length;
+        int runs = 0;
+        int start = 0;
+        while (start < len) {
+            if (runs > maxRuns) {
+                return runs;
+            }
+            runStarts[runs++] = start;
+            int end = start + 1;
+            if (end < len && array[end] < array[start]) {
+                while (end < len && array[end] < array[end - 1]) {
+                    end++;
+                }
+                reverse(array, start, end);
+            } else {
+                while (end < len && array[end] >= array[end - 1]) {
+                    end++;
+                }
+            }
+            start = end;
+        }
+        runStarts[runs] = len;
+        return runs;
+    }
+
+    private static void reverse(int[] array, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+
+    /**
+     * Сливает соседние серии попарно, проход за проходом, перекладывая данные
+     * между массивом и буфером.
+     */
+    private static void mergeRuns(int[] array, int[] runStarts, int runs) {
+        if (runs <= 1) {
+            return;
+        }
+        int[] src = array;
+        int[] dst = new int[array.length];
+        int count = runs;
+        while (count > 1) {
+            int merged = 0;
+            for (int i = 0; i < count; i += 2) {
+                int lo = runStarts[i];
+                if (i + 1 < count) {
+                    int mid = runStarts[i + 1];
+                    int hi = runStarts[i + 2];
+                    ParallelHeapSort.merge(src, lo, mid, mid, hi, dst, lo);
+                } else {
+                    System.arraycopy(src, lo, dst, lo, runStarts[count] - lo);
+                }
+                runStarts[merged++] = lo;
+            }
+            runStarts[merged] = runStarts[count];
+            count = merged;
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != array) {
+            System.arraycopy(src, 0, array, 0, array.length);
+        }
+    }
+
+    private static int sampleInversions(int[] array) {
+        SplittableRandom random = new SplittableRandom(array.length);
+        int inversions = 0;
+        for (int s = 0; s < INVERSION_SAMPLES; s++) {
+            int i = random.nextInt(array.length);
+            int j = random.nextInt(array.length);
+            if (i > j ? array[j] > array[i] : array[i] > array[j]) {
+                inversions++;
+            }
+        }
+        return inversions;
+    }
+
+    static void insertionSort(int[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int value = array[i];
+            int j = i - 1;
+            while (j >= from && array[j] > value) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+    }
+
+    /**
+     * Сортировка вставками, которая сдаётся, если число сдвигов превысило budget.
+     * Массив при этом остаётся перестановкой исходного.
+     */
+    private static boolean boundedInsertionSort(int[] array, long budget) {
+        long moves = 0;
+        for (int i = 1; i < array.length; i++) {
+            int value = array[i];
+            int j = i - 1;
+            while (j >= 0 && array[j] > value) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+            moves += i - 1 - j;
+            if (moves > budget) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
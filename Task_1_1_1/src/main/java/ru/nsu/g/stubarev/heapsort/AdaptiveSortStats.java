@@ -0,0 +1,84 @@
+package ru.nsu.g.stubarev.heapsort;
+
+/**
+ * Результат адаптивной сортировки: выбранный способ и признаки входных данных,
+ * по которым он выбран.
+ */
+public final class AdaptiveSortStats {
+
+    /**
+     * Способ, которым был отсортирован массив.
+     */
+    public enum Strategy {
+        /**
+         * Сортировка вставками: массив маленький или почти упорядочен.
+         */
+        INSERTION,
+
+        /**
+         * Слияние готовых возрастающих и убывающих серий.
+         * Уже отсортированный массив — это одна серия.
+         */
+        RUN_MERGE,
+
+        /**
+         * Пирамидальная сортировка.
+         */
+        HEAPSORT
+    }
+
+    private final Strategy strategy;
+    private final int runs;
+    private final int inversionSamples;
+    private final int sampledInversions;
+
+    AdaptiveSortStats(Strategy strategy, int runs, int inversionSamples, int sampledInversions) {
+        this.strategy = strategy;
+        this.runs = runs;
+        this.inversionSamples = inversionSamples;
+        this.sampledInversions = sampledInversions;
+    }
+
+    /**
+     * Выбранный способ сортировки.
+     *
+     * @return способ
+     */
+    public Strategy strategy() {
+        return strategy;
+    }
+
+    /**
+     * Число найденных серий. Подсчёт прекращается, когда серий становится
+     * слишком много для слияния, тогда значение на единицу больше порога.
+     *
+     * @return число серий
+     */
+    public int runs() {
+        return runs;
+    }
+
+    /**
+     * Сколько случайных пар элементов проверено на инверсию.
+     *
+     * @return число пар, 0 если выборка не понадобилась
+     */
+    public int inversionSamples() {
+        return inversionSamples;
+    }
+
+    /**
+     * Сколько из проверенных пар оказались инверсиями.
+     *
+     * @return число инверсий в выборке
+     */
+    public int sampledInversions() {
+        return sampledInversions;
+    }
+
+    @Override
+    public String toString() {
+        return strategy + "{runs=" + runs + ", inversions=" + sampledInversions + "/"
+                + inversionSamples + "}";
+    }
+}
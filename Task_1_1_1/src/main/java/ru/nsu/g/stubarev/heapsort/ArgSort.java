@@ -0,0 +1,64 @@
+package ru.nsu.g.stubarev.heapsort;
+
+/**
+ * Пирамидальная сортировка перестановки индексов вместо самих данных.
+ * Массив ключей не меняется, переставляются только индексы.
+ * В устойчивом режиме равные ключи упорядочиваются по исходному индексу.
+ */
+final class ArgSort {
+
+    private ArgSort() {
+    }
+
+    static void argsort(int[] keys, int[] indices, boolean stable) {
+        if (indices.length != keys.length) {
+            throw new IllegalArgumentException("Длина буфера индексов " + indices.length
+                    + " не совпадает с числом ключей " + keys.length);
+        }
+        int len = keys.length;
+        for (int i = 0; i < len; i++) {
+            indices[i] = i;
+        }
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(keys, indices, len, i, stable);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            int temp = indices[0];
+            indices[0] = indices[i];
+            indices[i] = temp;
+
+            heapify(keys, indices, i, 0, stable);
+        }
+    }
+
+    private static void heapify(int[] keys, int[] indices, int len, int root, boolean stable) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len && greater(keys, indices[leftChild], indices[largest], stable)) {
+                largest = leftChild;
+            }
+            if (rightChild < len && greater(keys, indices[rightChild], indices[largest], stable)) {
+                largest = rightChild;
+            }
+            if (largest == cur) {
+                break;
+            }
+            int temp = indices[cur];
+            indices[cur] = indices[largest];
+            indices[largest] = temp;
+
+            cur = largest;
+        }
+    }
+
+    private static boolean greater(int[] keys, int a, int b, boolean stable) {
+        return keys[a] > keys[b] || stable && keys[a] == keys[b] && a > b;
+    }
+}
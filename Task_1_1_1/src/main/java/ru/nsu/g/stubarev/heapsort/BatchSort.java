@@ -0,0 +1,90 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Пакетная сортировка многих коротких массивов или отрезков одного буфера.
+ * Набор отрезков делится пополам, пока в части больше GRAIN элементов,
+ * после чего часть сортируется в одной задаче последовательно.
+ */
+final class BatchSort {
+    static final int GRAIN = 1 << 13;
+
+    private BatchSort() {
+    }
+
+    static void sortAll(int[][] arrays, ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "pool");
+        long[] prefix = new long[arrays.length + 1];
+        for (int i = 0; i < arrays.length; i++) {
+            prefix[i + 1] = prefix[i] + arrays[i].length;
+        }
+        run(new BatchTask(arrays, null, prefix, 0, arrays.length), pool, prefix[arrays.length]);
+    }
+
+    static void sortAll(int[] data, int[] offsets, ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "pool");
+        long[] prefix = new long[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            if (offsets[i] < (i == 0 ? 0 : offsets[i - 1]) || offsets[i] > data.length) {
+                throw new IllegalArgumentException("Недопустимая граница отрезка " + i + ": "
+                        + offsets[i]);
+            }
+            prefix[i] = offsets[i];
+        }
+        int segments = Math.max(0, offsets.length - 1);
+        long total = segments == 0 ? 0 : prefix[segments] - prefix[0];
+        run(new BatchTask(null, data, prefix, 0, segments), pool, total);
+    }
+
+    private static void run(BatchTask task, ForkJoinPool pool, long total) {
+        if (total <= GRAIN || pool.getParallelism() == 1) {
+            task.sortSequentially();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    /**
+     * Сортирует отрезки с номерами [lo, hi). Если задан data, отрезок i — это
+     * [prefix[i], prefix[i + 1]) в data, иначе это массив arrays[i] целиком.
+     */
+    private static final class BatchTask extends RecursiveAction {
+        private final int[][] arrays;
+        private final int[] data;
+        private final long[] prefix;
+        private final int lo;
+        private final int hi;
+
+        BatchTask(int[][] arrays, int[] data, long[] prefix, int lo, int hi) {
+            this.arrays = arrays;
+            this.data = data;
+            this.prefix = prefix;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= 1 || prefix[hi] - prefix[lo] <= GRAIN) {
+                sortSequentially();
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new BatchTask(arrays, data, prefix, lo, mid),
+                    new BatchTask(arrays, data, prefix, mid, hi));
+        }
+
+        void sortSequentially() {
+            for (int i = lo; i < hi; i++) {
+                if (data != null) {
+                    Sort.heapSort(data, (int) prefix[i], (int) prefix[i + 1]);
+                } else {
+                    Sort.heapSort(arrays[i], 0, arrays[i].length);
+                }
+            }
+        }
+    }
+}
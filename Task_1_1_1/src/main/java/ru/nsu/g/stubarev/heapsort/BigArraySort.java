@@ -0,0 +1,117 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Сортировка {@link BigIntArray}. Последовательный вариант — пирамидальная
+ * сортировка с индексами long прямо по сегментам. Параллельный сортирует каждый
+ * сегмент параллельной пирамидальной сортировкой, затем сливает сегменты через кучу
+ * в новые сегменты того же размера; для каждого выходного сегмента позиции разреза
+ * находятся двоичным поиском, поэтому сегменты сливаются независимо.
+ * Параллельный вариант требует столько же дополнительной памяти, сколько занимает массив.
+ */
+final class BigArraySort {
+
+    private BigArraySort() {
+    }
+
+    static void sort(BigIntArray array) {
+        int[][] segments = array.segments();
+        int shift = array.segmentShift();
+        if (segments.length == 1) {
+            Sort.heapSort(segments[0], 0, segments[0].length);
+            return;
+        }
+        long len = array.length();
+
+        for (long i = len / 2 - 1; i >= 0; i--) {
+            heapify(segments, shift, len, i);
+        }
+
+        int mask = (1 << shift) - 1;
+        for (long i = len - 1; i > 0; i--) {
+            int[] last = segments[(int) (i >>> shift)];
+            int temp = segments[0][0];
+            segments[0][0] = last[(int) i & mask];
+            last[(int) i & mask] = temp;
+
+            heapify(segments, shift, i, 0);
+        }
+    }
+
+    private static void heapify(int[][] segments, int shift, long len, long root) {
+        int mask = (1 << shift) - 1;
+        long cur = root;
+
+        while (true) {
+            long largest = cur;
+            long leftChild = 2 * cur + 1;
+            long rightChild = 2 * cur + 2;
+
+            int curValue = segments[(int) (cur >>> shift)][(int) cur & mask];
+            int largestValue = curValue;
+            if (leftChild < len) {
+                int value = segments[(int) (leftChild >>> shift)][(int) leftChild & mask];
+                if (value > largestValue) {
+                    largest = leftChild;
+                    largestValue = value;
+                }
+            }
+            if (rightChild < len) {
+                int value = segments[(int) (rightChild >>> shift)][(int) rightChild & mask];
+                if (value > largestValue) {
+                    largest = rightChild;
+                    largestValue = value;
+                }
+            }
+            if (largest == cur) {
+                break;
+            }
+            segments[(int) (largest >>> shift)][(int) largest & mask] = curValue;
+            segments[(int) (cur >>> shift)][(int) cur & mask] = largestValue;
+
+            cur = largest;
+        }
+    }
+
+    static void parallelSort(BigIntArray array, ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "pool");
+        int[][] runs = array.segments();
+        for (int[] run : runs) {
+            ParallelHeapSort.sort(run, pool);
+        }
+        if (runs.length < 2) {
+            return;
+        }
+
+        int[][] out = new int[runs.length][];
+        List<RecursiveAction> tasks = new ArrayList<>();
+        long start = 0;
+        int[] from = RunMerger.split(runs, 0);
+        for (int s = 0; s < runs.length; s++) {
+            int[] segment = new int[runs[s].length];
+            out[s] = segment;
+            start += segment.length;
+            int[] lo = from;
+            int[] hi = RunMerger.split(runs, start);
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    RunMerger.merge(runs, lo, hi, segment, 0);
+                }
+            });
+            from = hi;
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+        array.replaceSegments(out);
+    }
+}
@@ -0,0 +1,233 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import ru.nsu.g.stubarev.heapsort.exceptions.BigArrayLoadException;
+
+/**
+ * Массив целых чисел с индексами типа long, который может быть длиннее 2^31 элементов.
+ * Хранится как последовательность обычных массивов int[] одинакового размера,
+ * равного степени двойки; последний сегмент может быть короче. Номер сегмента
+ * и смещение в нём получаются сдвигом и маской индекса.
+ */
+public final class BigIntArray {
+    static final int DEFAULT_SEGMENT_SHIFT = 27;
+
+    private int[][] segments;
+    private final int shift;
+    private final int mask;
+    private final long length;
+
+    /**
+     * Создаёт массив из нулей.
+     *
+     * @param length длина массива
+     * @throws IllegalArgumentException если длина отрицательна или слишком велика
+     */
+    public BigIntArray(long length) {
+        this(length, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    BigIntArray(long length, int shift) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Длина не может быть отрицательной: " + length);
+        }
+        checkShift(shift);
+        long count = (length + (1L << shift) - 1) >>> shift;
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Слишком большая длина: " + length);
+        }
+        this.shift = shift;
+        this.mask = (1 << shift) - 1;
+        this.length = length;
+        this.segments = new int[(int) count][];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new int[(int) Math.min(1L << shift, length - ((long) i << shift))];
+        }
+    }
+
+    private BigIntArray(int[][] segments, long length, int shift) {
+        this.shift = shift;
+        this.mask = (1 << shift) - 1;
+        this.length = length;
+        this.segments = segments;
+    }
+
+    private static void checkShift(int shift) {
+        if (shift < 1 || shift > 30) {
+            throw new IllegalArgumentException("Недопустимый размер сегмента: 2^" + shift);
+        }
+    }
+
+    /**
+     * Загружает двоичный файл 32-битных чисел с порядком байтов big-endian.
+     *
+     * @param file файл
+     * @return массив с содержимым файла
+     * @throws BigArrayLoadException если файл повреждён или не читается
+     */
+    public static BigIntArray read(Path file) {
+        return read(file, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Загружает двоичный файл 32-битных чисел. Файл отображается в память
+     * по сегментам и копируется в них целиком.
+     *
+     * @param file файл
+     * @param order порядок байтов в файле
+     * @return массив с содержимым файла
+     * @throws BigArrayLoadException если файл повреждён или не читается
+     */
+    public static BigIntArray read(Path file, ByteOrder order) {
+        return read(file, order, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    static BigIntArray read(Path file, ByteOrder order, int shift) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes % Integer.BYTES != 0) {
+                throw new BigArrayLoadException(
+                        "Размер файла не кратен " + Integer.BYTES + ": " + file);
+            }
+            BigIntArray array = new BigIntArray(bytes / Integer.BYTES, shift);
+            long pos = 0;
+            for (int[] segment : array.segments) {
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY,
+                        pos, (long) segment.length * Integer.BYTES);
+                region.order(order).asIntBuffer().get(segment);
+                pos += (long) segment.length * Integer.BYTES;
+            }
+            return array;
+        } catch (IOException e) {
+            throw new BigArrayLoadException("Не удалось прочитать файл: " + file, e);
+        }
+    }
+
+    /**
+     * Собирает числа потока в порядке следования. Длина потока заранее
+     * не известна: сегменты добавляются по мере заполнения.
+     *
+     * @param stream поток чисел
+     * @return массив с числами потока
+     */
+    public static BigIntArray of(IntStream stream) {
+        return of(stream, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    static BigIntArray of(IntStream stream, int shift) {
+        Objects.requireNonNull(stream, "stream");
+        checkShift(shift);
+        Collector collector = new Collector(shift);
+        stream.forEachOrdered(collector);
+        return collector.finish();
+    }
+
+    /**
+     * Возвращает длину массива.
+     *
+     * @return число элементов
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Возвращает элемент по индексу.
+     *
+     * @param index индекс
+     * @return значение элемента
+     * @throws IndexOutOfBoundsException если индекс вне массива
+     */
+    public int get(long index) {
+        Objects.checkIndex(index, length);
+        return segments[(int) (index >>> shift)][(int) index & mask];
+    }
+
+    /**
+     * Записывает элемент по индексу.
+     *
+     * @param index индекс
+     * @param value новое значение
+     * @throws IndexOutOfBoundsException если индекс вне массива
+     */
+    public void set(long index, int value) {
+        Objects.checkIndex(index, length);
+        segments[(int) (index >>> shift)][(int) index & mask] = value;
+    }
+
+    int[][] segments() {
+        return segments;
+    }
+
+    int segmentShift() {
+        return shift;
+    }
+
+    /**
+     * Подменяет сегменты новыми той же формы, например результатом слияния.
+     */
+    void replaceSegments(int[][] replacement) {
+        if (replacement.length != segments.length) {
+            throw new IllegalArgumentException("Ожидалось " + segments.length
+                    + " сегментов, получено " + replacement.length);
+        }
+        for (int i = 0; i < segments.length; i++) {
+            if (replacement[i].length != segments[i].length) {
+                throw new IllegalArgumentException("Сегмент " + i + " содержит "
+                        + replacement[i].length + " элементов, ожидалось " + segments[i].length);
+            }
+        }
+        segments = replacement;
+    }
+
+    /**
+     * Последовательно заполняет сегменты числами потока.
+     */
+    private static final class Collector implements IntConsumer {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final int shift;
+        private final List<int[]> full = new ArrayList<>();
+        private int[] current;
+        private int size;
+
+        Collector(int shift) {
+            this.shift = shift;
+            this.current = new int[Math.min(1 << shift, INITIAL_CAPACITY)];
+        }
+
+        @Override
+        public void accept(int value) {
+            if (size == current.length) {
+                if (size == 1 << shift) {
+                    full.add(current);
+                    current = new int[Math.min(1 << shift, INITIAL_CAPACITY)];
+                    size = 0;
+                } else {
+                    current = Arrays.copyOf(current, Math.min(1 << shift, size * 2));
+                }
+            }
+            current[size++] = value;
+        }
+
+        BigIntArray finish() {
+            long length = ((long) full.size() << shift) + size;
+            List<int[]> all = new ArrayList<>(full);
+            if (size > 0) {
+                all.add(Arrays.copyOf(current, size));
+            }
+            return new BigIntArray(all.toArray(new int[0][]), length, shift);
+        }
+    }
+}
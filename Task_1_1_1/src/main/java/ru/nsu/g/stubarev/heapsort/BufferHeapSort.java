@@ -0,0 +1,171 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.nio.IntBuffer;
+
+/**
+ * Пирамидальная сортировка данных вне массивов Java: в IntBuffer, в том числе
+ * прямом, и в последовательности буферов с индексацией типом long.
+ * Данные сортируются на месте, без копирования в кучу Java. Исключение —
+ * отрезки прямого буфера не длиннее {@link SortingNetwork#MAX_SIZE}: как и в
+ * Sort.heapSort, они сортируются сетью, для чего копируются в короткий массив
+ * и записываются обратно.
+ */
+final class BufferHeapSort {
+
+    private BufferHeapSort() {
+    }
+
+    static void sort(IntBuffer buffer) {
+        int from = buffer.position();
+        int to = buffer.limit();
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            Sort.heapSort(buffer.array(), offset + from, offset + to);
+            return;
+        }
+        int len = to - from;
+        if (len <= SortingNetwork.MAX_SIZE) {
+            int[] block = new int[len];
+            buffer.get(from, block);
+            SortingNetwork.sort(block, 0, len);
+            buffer.put(from, block);
+            return;
+        }
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(buffer, from, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            int temp = buffer.get(from);
+            buffer.put(from, buffer.get(from + i));
+            buffer.put(from + i, temp);
+
+            heapify(buffer, from, i, 0);
+        }
+    }
+
+    private static void heapify(IntBuffer buffer, int from, int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            int largestValue = buffer.get(from + cur);
+            if (leftChild < len && buffer.get(from + leftChild) > largestValue) {
+                largest = leftChild;
+                largestValue = buffer.get(from + leftChild);
+            }
+            if (rightChild < len && buffer.get(from + rightChild) > largestValue) {
+                largest = rightChild;
+                largestValue = buffer.get(from + rightChild);
+            }
+            if (largest == cur) {
+                break;
+            }
+            buffer.put(from + largest, buffer.get(from + cur));
+            buffer.put(from + cur, largestValue);
+
+            cur = largest;
+        }
+    }
+
+    static void sort(IntBuffer[] segments) {
+        Segments data = new Segments(segments);
+        long len = data.length;
+
+        for (long i = len / 2 - 1; i >= 0; i--) {
+            heapify(data, len, i);
+        }
+
+        for (long i = len - 1; i > 0; i--) {
+            int temp = data.get(0);
+            data.put(0, data.get(i));
+            data.put(i, temp);
+
+            heapify(data, i, 0);
+        }
+    }
+
+    private static void heapify(Segments data, long len, long root) {
+        long cur = root;
+
+        while (true) {
+            long largest = cur;
+            long leftChild = 2 * cur + 1;
+            long rightChild = 2 * cur + 2;
+
+            int largestValue = data.get(cur);
+            if (leftChild < len && data.get(leftChild) > largestValue) {
+                largest = leftChild;
+                largestValue = data.get(leftChild);
+            }
+            if (rightChild < len && data.get(rightChild) > largestValue) {
+                largest = rightChild;
+                largestValue = data.get(rightChild);
+            }
+            if (largest == cur) {
+                break;
+            }
+            data.put(largest, data.get(cur));
+            data.put(cur, largestValue);
+
+            cur = largest;
+        }
+    }
+
+    /**
+     * Последовательность буферов, видимая как один массив с индексами long.
+     * Все буферы, кроме последнего, содержат одинаковое число элементов,
+     * равное степени двойки, поэтому номер буфера получается сдвигом.
+     */
+    private static final class Segments {
+        private final IntBuffer[] buffers;
+        private final int[] offsets;
+        private final int shift;
+        private final int mask;
+        private final long length;
+
+        Segments(IntBuffer[] buffers) {
+            this.buffers = buffers;
+            this.offsets = new int[buffers.length];
+            int segmentSize = buffers.length <= 1 ? 1 << 30 : buffers[0].remaining();
+            if (Integer.bitCount(segmentSize) != 1) {
+                throw new IllegalArgumentException(
+                        "Размер сегмента должен быть степенью двойки: " + segmentSize);
+            }
+            long total = 0;
+            for (int i = 0; i < buffers.length; i++) {
+                int remaining = buffers[i].remaining();
+                boolean last = i == buffers.length - 1;
+                if (!last && remaining != segmentSize) {
+                    throw new IllegalArgumentException(
+                            "Сегмент " + i + " содержит " + remaining + " элементов, ожидалось "
+                                    + segmentSize);
+                }
+                if (last && buffers.length > 1 && remaining > segmentSize) {
+                    throw new IllegalArgumentException(
+                            "Последний сегмент длиннее остальных: " + remaining);
+                }
+                offsets[i] = buffers[i].position();
+                total += remaining;
+            }
+            this.shift = buffers.length <= 1 ? Integer.SIZE - 1
+                    : Integer.numberOfTrailingZeros(segmentSize);
+            this.mask = (int) ((1L << shift) - 1);
+            this.length = total;
+        }
+
+        int get(long index) {
+            int segment = (int) (index >>> shift);
+            return buffers[segment].get(offsets[segment] + ((int) index & mask));
+        }
+
+        void put(long index, int value) {
+            int segment = (int) (index >>> shift);
+            buffers[segment].put(offsets[segment] + ((int) index & mask), value);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.Arrays;
+
+/**
+ * Совместная сортировка колонки ключей и связанных с ней колонок данных.
+ * Каждая перестановка ключей при сортировке сразу применяется ко всем
+ * зарегистрированным колонкам, поэтому отдельная перестановка индексов
+ * и второй проход по данным не нужны.
+ */
+public final class ColumnSort {
+    private final int[] keys;
+    private int[][] intColumns = new int[0][];
+    private long[][] longColumns = new long[0][];
+    private double[][] doubleColumns = new double[0][];
+
+    ColumnSort(int[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Регистрирует колонку типа int.
+     *
+     * @param column колонка той же длины, что и ключи
+     * @return этот объект
+     * @throws IllegalArgumentException если длина колонки отличается, колонка — это
+     *         сами ключи или она уже зарегистрирована
+     */
+    public ColumnSort payload(int[] column) {
+        checkLength(column.length);
+        if (column == keys) {
+            throw new IllegalArgumentException("Колонка ключей не может быть колонкой данных");
+        }
+        checkNotRegistered(column, intColumns);
+        intColumns = Arrays.copyOf(intColumns, intColumns.length + 1);
+        intColumns[intColumns.length - 1] = column;
+        return this;
+    }
+
+    /**
+     * Регистрирует колонку типа long.
+     *
+     * @param column колонка той же длины, что и ключи
+     * @return этот объект
+     * @throws IllegalArgumentException если длина колонки отличается
+     *         или она уже зарегистрирована
+     */
+    public ColumnSort payload(long[] column) {
+        checkLength(column.length);
+        checkNotRegistered(column, longColumns);
+        longColumns = Arrays.copyOf(longColumns, longColumns.length + 1);
+        longColumns[longColumns.length - 1] = column;
+        return this;
+    }
+
+    /**
+     * Регистрирует колонку типа double.
+     *
+     * @param column колонка той же длины, что и ключи
+     * @return этот объект
+     * @throws IllegalArgumentException если длина колонки отличается
+     *         или она уже зарегистрирована
+     */
+    public ColumnSort payload(double[] column) {
+        checkLength(column.length);
+        checkNotRegistered(column, doubleColumns);
+        doubleColumns = Arrays.copyOf(doubleColumns, doubleColumns.length + 1);
+        doubleColumns[doubleColumns.length - 1] = column;
+        return this;
+    }
+
+    /**
+     * Повторно зарегистрированная колонка переставлялась бы дважды за каждый обмен
+     * ключей, и перестановки взаимно уничтожались бы.
+     */
+    private static void checkNotRegistered(Object column, Object[] registered) {
+        for (Object other : registered) {
+            if (other == column) {
+                throw new IllegalArgumentException("Колонка уже зарегистрирована");
+            }
+        }
+    }
+
+    private void checkLength(int length) {
+        if (length != keys.length) {
+            throw new IllegalArgumentException("Длина колонки " + length
+                    + " не совпадает с числом ключей " + keys.length);
+        }
+    }
+
+    /**
+     * Сортирует ключи по возрастанию, переставляя строки всех колонок вместе с ними.
+     */
+    public void sort() {
+        int len = keys.length;
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            swap(0, i);
+            heapify(i, 0);
+        }
+    }
+
+    private void heapify(int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len && keys[leftChild] > keys[largest]) {
+                largest = leftChild;
+            }
+            if (rightChild < len && keys[rightChild] > keys[largest]) {
+                largest = rightChild;
+            }
+            if (largest == cur) {
+                break;
+            }
+            swap(cur, largest);
+
+            cur = largest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        for (int[] column : intColumns) {
+            int temp = column[i];
+            column[i] = column[j];
+            column[j] = temp;
+        }
+        for (long[] column : longColumns) {
+            long temp = column[i];
+            column[i] = column[j];
+            column[j] = temp;
+        }
+        for (double[] column : doubleColumns) {
+            double temp = column[i];
+            column[i] = column[j];
+            column[j] = temp;
+        }
+    }
+}
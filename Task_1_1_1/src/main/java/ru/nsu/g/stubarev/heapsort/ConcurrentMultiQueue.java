@@ -0,0 +1,164 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Нестрогая конкурентная очередь с приоритетом (MultiQueue) для чисел long.
+ * Состоит из нескольких min-куч {@link LongHeap}, у каждой своя блокировка.
+ * Вставка идёт в случайную кучу, извлечение берёт меньшую из вершин двух случайных куч.
+ * Поэтому извлекается не обязательно наименьший элемент, но в среднем его ранг
+ * ограничен числом куч, а потоки почти не ждут друг друга.
+ */
+public class ConcurrentMultiQueue {
+    private final SubQueue[] queues;
+    private final AtomicLong size = new AtomicLong();
+
+    /**
+     * Создаёт очередь из двух куч на каждый доступный процессор.
+     */
+    public ConcurrentMultiQueue() {
+        this(2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Создаёт очередь из заданного числа куч.
+     *
+     * @param queueCount число куч, обычно в 2-4 раза больше числа потоков
+     * @throws IllegalArgumentException если queueCount меньше 1
+     */
+    public ConcurrentMultiQueue(int queueCount) {
+        if (queueCount < 1) {
+            throw new IllegalArgumentException("Нужна хотя бы одна куча: " + queueCount);
+        }
+        queues = new SubQueue[queueCount];
+        for (int i = 0; i < queueCount; i++) {
+            queues[i] = new SubQueue();
+        }
+    }
+
+    /**
+     * Добавляет элемент в случайную свободную кучу.
+     *
+     * @param value элемент
+     */
+    public void offer(long value) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            SubQueue queue = queues[random.nextInt(queues.length)];
+            if (queue.lock.tryLock()) {
+                try {
+                    size.incrementAndGet();
+                    queue.heap.push(value);
+                    queue.updateTop();
+                } finally {
+                    queue.lock.unlock();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Извлекает элемент с малым приоритетом: меньшую из вершин двух случайных куч.
+     *
+     * @param ifEmpty значение, возвращаемое, если очередь пуста
+     * @return извлечённый элемент или ifEmpty
+     */
+    public long poll(long ifEmpty) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < queues.length; attempt++) {
+            SubQueue first = queues[random.nextInt(queues.length)];
+            SubQueue second = queues[random.nextInt(queues.length)];
+            SubQueue best = second.isEmpty() || !first.isEmpty() && first.top <= second.top
+                    ? first : second;
+            if (best.isEmpty()) {
+                continue;
+            }
+            if (best.lock.tryLock()) {
+                try {
+                    if (!best.heap.isEmpty()) {
+                        return take(best);
+                    }
+                } finally {
+                    best.lock.unlock();
+                }
+            }
+        }
+        return pollAny(ifEmpty);
+    }
+
+    /**
+     * Медленный путь: обходит все кучи по очереди, пока не найдёт непустую.
+     * Счётчик size увеличивается до вставки и уменьшается после извлечения,
+     * поэтому он никогда не меньше числа элементов в кучах. Чтение атомарного
+     * счётчика даёт его значение в один момент, поэтому пустой результат
+     * возвращается, только если в этот момент очередь была пуста.
+     */
+    private long pollAny(long ifEmpty) {
+        int start = ThreadLocalRandom.current().nextInt(queues.length);
+        while (size.get() > 0) {
+            for (int i = 0; i < queues.length; i++) {
+                SubQueue queue = queues[(start + i) % queues.length];
+                queue.lock.lock();
+                try {
+                    if (!queue.heap.isEmpty()) {
+                        return take(queue);
+                    }
+                } finally {
+                    queue.lock.unlock();
+                }
+            }
+        }
+        return ifEmpty;
+    }
+
+    private long take(SubQueue queue) {
+        long value = queue.heap.pop();
+        queue.updateTop();
+        size.decrementAndGet();
+        return value;
+    }
+
+    /**
+     * Число элементов. При одновременных изменениях может ненадолго учитывать
+     * элемент, который ещё вставляется или уже извлечён.
+     *
+     * @return число элементов
+     */
+    public long size() {
+        return size.get();
+    }
+
+    /**
+     * Пуста ли очередь, с той же оговоркой, что и у size.
+     *
+     * @return true, если элементов нет
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Куча со своей блокировкой и опубликованной вершиной, которую можно
+     * читать без блокировки при выборе кучи.
+     */
+    private static final class SubQueue {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LongHeap heap = new LongHeap();
+        private volatile long top;
+        private volatile boolean empty = true;
+
+        void updateTop() {
+            empty = heap.isEmpty();
+            if (!empty) {
+                top = heap.peek();
+            }
+        }
+
+        boolean isEmpty() {
+            return empty;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package ru.nsu.g.stubarev.heapsort;
+
+/**
+ * Пирамидальная сортировка на d-арной куче.
+ * Дети узла i лежат подряд в позициях d * i + 1 ... d * i + d, поэтому при d = 4
+ * и d = 8 выбор наибольшего ребёнка читает 16 или 32 байта подряд. Они занимают одну
+ * или две строки кэша: выравнивание массива в Java не задаётся, поэтому группа детей
+ * может пересечь границу строки. Высота кучи при этом в log2(d) раз меньше, чем у двоичной.
+ */
+final class DaryHeapSort {
+
+    private DaryHeapSort() {
+    }
+
+    static void checkArity(int arity) {
+        if (arity != 2 && arity != 4 && arity != 8) {
+            throw new IllegalArgumentException("Арность кучи должна быть 2, 4 или 8: " + arity);
+        }
+    }
+
+    static void sort(int[] array, int from, int to, int arity) {
+        checkArity(arity);
+        if (arity == 2) {
+            Sort.heapSort(array, from, to);
+            return;
+        }
+        int len = to - from;
+        if (len < 2) {
+            return;
+        }
+
+        for (int i = (len - 2) / arity; i >= 0; i--) {
+            heapify(array, from, len, i, arity);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            int temp = array[from];
+            array[from] = array[from + i];
+            array[from + i] = temp;
+
+            heapify(array, from, i, 0, arity);
+        }
+    }
+
+    private static void heapify(int[] array, int from, int len, int root, int arity) {
+        int cur = root;
+        int value = array[from + cur];
+
+        while (true) {
+            int firstChild = arity * cur + 1;
+            if (firstChild >= len) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + arity, len);
+            int largest = firstChild;
+            int largestValue = array[from + firstChild];
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (array[from + child] > largestValue) {
+                    largest = child;
+                    largestValue = array[from + child];
+                }
+            }
+            if (largestValue <= value) {
+                break;
+            }
+            array[from + cur] = largestValue;
+
+            cur = largest;
+        }
+        array[from + cur] = value;
+    }
+}
@@ -0,0 +1,301 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import ru.nsu.g.stubarev.heapsort.exceptions.ExternalSortException;
+
+/**
+ * Внешняя сортировка двоичных файлов из 32-битных целых чисел.
+ * Файл читается кусками через один переиспользуемый буфер, каждый кусок
+ * сортируется пирамидальной сортировкой и сбрасывается во временный файл.
+ * Кусок вместе с буфером ввода-вывода укладывается в бюджет памяти.
+ * Затем временные файлы сливаются через кучу в выходной файл. Если файлов больше,
+ * чем помещается буферов в бюджет памяти, слияние идёт в несколько проходов.
+ */
+public class ExternalSort {
+    private static final int MAX_RUN_LENGTH = Integer.MAX_VALUE / Integer.BYTES;
+
+    private final long memoryBudget;
+    private final int ioBufferSize;
+    private final ByteOrder order;
+
+    /**
+     * Создаёт сортировщик для файлов с порядком байтов big-endian.
+     *
+     * @param memoryBudget бюджет памяти в байтах
+     * @param ioBufferSize размер буфера ввода-вывода одного файла в байтах
+     */
+    public ExternalSort(long memoryBudget, int ioBufferSize) {
+        this(memoryBudget, ioBufferSize, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Создаёт сортировщик.
+     *
+     * @param memoryBudget бюджет памяти в байтах, не меньше трёх буферов ввода-вывода
+     * @param ioBufferSize размер буфера ввода-вывода одного файла в байтах
+     * @param order порядок байтов в файлах
+     * @throws IllegalArgumentException если параметры недопустимы
+     */
+    public ExternalSort(long memoryBudget, int ioBufferSize, ByteOrder order) {
+        if (ioBufferSize < Integer.BYTES) {
+            throw new IllegalArgumentException("Слишком маленький буфер: " + ioBufferSize);
+        }
+        if (memoryBudget < 3L * ioBufferSize) {
+            throw new IllegalArgumentException(
+                    "Бюджет памяти меньше трёх буферов: " + memoryBudget);
+        }
+        this.memoryBudget = memoryBudget;
+        this.ioBufferSize = ioBufferSize - ioBufferSize % Integer.BYTES;
+        this.order = order;
+    }
+
+    /**
+     * Сортирует числа файла input и записывает результат в output.
+     *
+     * @param input исходный файл
+     * @param output выходной файл, перезаписывается
+     * @throws ExternalSortException если файл повреждён или произошла ошибка ввода-вывода
+     */
+    public void sort(Path input, Path output) {
+        List<Path> tempFiles = new ArrayList<>();
+        try {
+            Path tempDir = output.toAbsolutePath().getParent();
+            List<Path> runs = new ArrayList<>();
+            if (!createRuns(input, output, tempDir, runs, tempFiles)) {
+                return;
+            }
+            int fanIn = (int) Math.min(Integer.MAX_VALUE, memoryBudget / ioBufferSize - 1);
+            while (runs.size() > fanIn) {
+                List<Path> merged = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    List<Path> group = runs.subList(i, Math.min(runs.size(), i + fanIn));
+                    Path target = createTempFile(tempDir, tempFiles);
+                    merged.add(target);
+                    merge(group, target);
+                    deleteAll(group);
+                }
+                runs = merged;
+            }
+            merge(runs, output);
+        } catch (IOException e) {
+            throw new ExternalSortException("Не удалось отсортировать файл: " + input, e);
+        } finally {
+            deleteAll(tempFiles);
+        }
+    }
+
+    /**
+     * Нарезает файл на отсортированные серии. Если серия одна, она сразу
+     * пишется в output и метод возвращает false.
+     */
+    private boolean createRuns(Path input, Path output, Path tempDir, List<Path> runs,
+                               List<Path> tempFiles) throws IOException {
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes % Integer.BYTES != 0) {
+                throw new ExternalSortException(
+                        "Размер файла не кратен " + Integer.BYTES + ": " + input);
+            }
+            long total = bytes / Integer.BYTES;
+            int runLength = (int) Math.min(MAX_RUN_LENGTH,
+                    Math.min(total, (memoryBudget - ioBufferSize) / Integer.BYTES));
+            int[] run = new int[runLength];
+            ByteBuffer buffer = ByteBuffer.allocate(ioBufferSize).order(order);
+
+            for (long pos = 0; pos < total; pos += runLength) {
+                int len = (int) Math.min(runLength, total - pos);
+                read(channel, buffer, run, len);
+                Sort.heapSort(run, 0, len);
+
+                if (len == total) {
+                    write(run, len, output, buffer);
+                    return false;
+                }
+                Path target = createTempFile(tempDir, tempFiles);
+                runs.add(target);
+                write(run, len, target, buffer);
+            }
+        }
+        if (runs.isEmpty()) {
+            write(new int[0], 0, output, ByteBuffer.allocate(0));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Читает из текущей позиции канала len чисел в run через буфер.
+     */
+    private static void read(FileChannel channel, ByteBuffer buffer, int[] run, int len)
+            throws IOException {
+        IntBuffer ints = buffer.clear().asIntBuffer();
+        for (int pos = 0; pos < len; pos += ints.capacity()) {
+            int count = Math.min(ints.capacity(), len - pos);
+            buffer.clear().limit(count * Integer.BYTES);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new ExternalSortException("Файл укоротился во время чтения");
+                }
+            }
+            ints.clear();
+            ints.get(run, pos, count);
+        }
+    }
+
+    private static void write(int[] run, int len, Path target, ByteBuffer buffer)
+            throws IOException {
+        IntBuffer ints = buffer.clear().asIntBuffer();
+        try (FileChannel channel = openForWrite(target)) {
+            for (int pos = 0; pos < len; pos += ints.capacity()) {
+                int count = Math.min(ints.capacity(), len - pos);
+                ints.clear();
+                ints.put(run, pos, count);
+                buffer.clear().limit(count * Integer.BYTES);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Сливает отсортированные файлы через min-кучу номеров серий,
+     * упорядоченную по текущему числу каждой серии.
+     */
+    private void merge(List<Path> runs, Path target) throws IOException {
+        int count = runs.size();
+        RunReader[] readers = new RunReader[count];
+        int[] heap = new int[count];
+        int size = 0;
+        try (FileChannel out = openForWrite(target)) {
+            for (int i = 0; i < count; i++) {
+                readers[i] = new RunReader(runs.get(i));
+                if (readers[i].advance()) {
+                    heap[size++] = i;
+                }
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(heap, size, i, readers);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(ioBufferSize).order(order);
+            while (size > 0) {
+                RunReader top = readers[heap[0]];
+                buffer.putInt(top.current);
+                if (!buffer.hasRemaining()) {
+                    flush(buffer, out);
+                }
+                if (!top.advance()) {
+                    heap[0] = heap[--size];
+                }
+                siftDown(heap, size, 0, readers);
+            }
+            flush(buffer, out);
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    private static void siftDown(int[] heap, int len, int root, RunReader[] readers) {
+        int cur = root;
+
+        while (true) {
+            int smallest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len
+                    && readers[heap[leftChild]].current < readers[heap[smallest]].current) {
+                smallest = leftChild;
+            }
+            if (rightChild < len
+                    && readers[heap[rightChild]].current < readers[heap[smallest]].current) {
+                smallest = rightChild;
+            }
+            if (smallest == cur) {
+                break;
+            }
+            int temp = heap[cur];
+            heap[cur] = heap[smallest];
+            heap[smallest] = temp;
+
+            cur = smallest;
+        }
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static Path createTempFile(Path dir, List<Path> tempFiles) throws IOException {
+        Path path = Files.createTempFile(dir, "run", ".bin");
+        tempFiles.add(path);
+        return path;
+    }
+
+    private static FileChannel openForWrite(Path target) throws IOException {
+        return FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static void deleteAll(List<Path> paths) {
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ignored) {
+                // временный файл останется в каталоге, на результат это не влияет
+            }
+        }
+    }
+
+    /**
+     * Последовательное чтение одной серии через буфер.
+     */
+    private final class RunReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private int current;
+
+        RunReader(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            buffer = ByteBuffer.allocate(ioBufferSize).order(order);
+            buffer.flip();
+        }
+
+        boolean advance() throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                buffer.compact();
+                while (buffer.position() < Integer.BYTES) {
+                    if (channel.read(buffer) < 0) {
+                        return false;
+                    }
+                }
+                buffer.flip();
+            }
+            current = buffer.getInt();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
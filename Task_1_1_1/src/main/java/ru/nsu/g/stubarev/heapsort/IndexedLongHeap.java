@@ -0,0 +1,267 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Индексированная min-куча: элементы — целые идентификаторы от 0 до capacity - 1
+ * с приоритетами типа long. Массив позиций хранит место каждого идентификатора в куче,
+ * поэтому изменение приоритета и удаление по идентификатору работают за O(log n).
+ */
+public class IndexedLongHeap {
+    private final int[] heap;
+    private final int[] positions;
+    private final long[] priorities;
+    private int size;
+
+    /**
+     * Создаёт пустую кучу для идентификаторов от 0 до capacity - 1.
+     *
+     * @param capacity количество возможных идентификаторов
+     * @throws IllegalArgumentException если capacity отрицательна
+     */
+    public IndexedLongHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Отрицательная ёмкость: " + capacity);
+        }
+        heap = new int[capacity];
+        positions = new int[capacity];
+        priorities = new long[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Добавляет идентификатор с приоритетом.
+     *
+     * @param id идентификатор
+     * @param priority приоритет
+     * @throws IllegalArgumentException если идентификатор вне диапазона или уже в куче
+     */
+    public void insert(int id, long priority) {
+        checkRange(id);
+        if (positions[id] >= 0) {
+            throw new IllegalArgumentException("Идентификатор уже в куче: " + id);
+        }
+        priorities[id] = priority;
+        heap[size] = id;
+        positions[id] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Есть ли идентификатор в куче.
+     *
+     * @param id идентификатор
+     * @return true, если есть
+     */
+    public boolean contains(int id) {
+        return id >= 0 && id < positions.length && positions[id] >= 0;
+    }
+
+    /**
+     * Текущий приоритет идентификатора.
+     *
+     * @param id идентификатор
+     * @return приоритет
+     * @throws NoSuchElementException если идентификатора нет в куче
+     */
+    public long priority(int id) {
+        checkContains(id);
+        return priorities[id];
+    }
+
+    /**
+     * Идентификатор с наименьшим приоритетом.
+     *
+     * @return идентификатор
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int peekId() {
+        checkNotEmpty();
+        return heap[0];
+    }
+
+    /**
+     * Наименьший приоритет.
+     *
+     * @return приоритет
+     * @throws NoSuchElementException если куча пуста
+     */
+    public long peekPriority() {
+        checkNotEmpty();
+        return priorities[heap[0]];
+    }
+
+    /**
+     * Удаляет и возвращает идентификатор с наименьшим приоритетом.
+     *
+     * @return идентификатор
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int pop() {
+        checkNotEmpty();
+        int top = heap[0];
+        removeAt(0);
+        return top;
+    }
+
+    /**
+     * Уменьшает приоритет идентификатора.
+     *
+     * @param id идентификатор
+     * @param priority новый приоритет, не больше текущего
+     * @throws NoSuchElementException если идентификатора нет в куче
+     * @throws IllegalArgumentException если новый приоритет больше текущего
+     */
+    public void decreaseKey(int id, long priority) {
+        checkContains(id);
+        if (priority > priorities[id]) {
+            throw new IllegalArgumentException("Новый приоритет больше текущего: " + priority);
+        }
+        priorities[id] = priority;
+        siftUp(positions[id]);
+    }
+
+    /**
+     * Увеличивает приоритет идентификатора.
+     *
+     * @param id идентификатор
+     * @param priority новый приоритет, не меньше текущего
+     * @throws NoSuchElementException если идентификатора нет в куче
+     * @throws IllegalArgumentException если новый приоритет меньше текущего
+     */
+    public void increaseKey(int id, long priority) {
+        checkContains(id);
+        if (priority < priorities[id]) {
+            throw new IllegalArgumentException("Новый приоритет меньше текущего: " + priority);
+        }
+        priorities[id] = priority;
+        siftDown(positions[id]);
+    }
+
+    /**
+     * Удаляет идентификатор из кучи.
+     *
+     * @param id идентификатор
+     * @return true, если идентификатор был в куче
+     */
+    public boolean remove(int id) {
+        if (!contains(id)) {
+            return false;
+        }
+        removeAt(positions[id]);
+        return true;
+    }
+
+    /**
+     * Количество элементов.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Пуста ли куча.
+     *
+     * @return true, если элементов нет
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удаляет все элементы.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void removeAt(int index) {
+        int removed = heap[index];
+        positions[removed] = -1;
+        size--;
+        if (index == size) {
+            return;
+        }
+        int last = heap[size];
+        heap[index] = last;
+        positions[last] = index;
+        if (index > 0
+                && priorities[last] < priorities[heap[(index - 1) / 2]]) {
+            siftUp(index);
+        } else {
+            siftDown(index);
+        }
+    }
+
+    private void checkRange(int id) {
+        if (id < 0 || id >= positions.length) {
+            throw new IllegalArgumentException("Идентификатор вне диапазона: " + id);
+        }
+    }
+
+    private void checkContains(int id) {
+        if (!contains(id)) {
+            throw new NoSuchElementException("Идентификатора нет в куче: " + id);
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Куча пуста");
+        }
+    }
+
+    private void siftUp(int index) {
+        int cur = index;
+        int id = heap[cur];
+        while (cur > 0) {
+            int parent = (cur - 1) / 2;
+            if (!(priorities[id] < priorities[heap[parent]])) {
+                break;
+            }
+            move(heap[parent], cur);
+            cur = parent;
+        }
+        move(id, cur);
+    }
+
+    private void siftDown(int root) {
+        int cur = root;
+        int id = heap[cur];
+
+        while (true) {
+            int smallest = cur;
+            long smallestPriority = priorities[id];
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < size
+                    && priorities[heap[leftChild]] < smallestPriority) {
+                smallest = leftChild;
+                smallestPriority = priorities[heap[leftChild]];
+            }
+            if (rightChild < size
+                    && priorities[heap[rightChild]] < smallestPriority) {
+                smallest = rightChild;
+            }
+            if (smallest == cur) {
+                break;
+            }
+            move(heap[smallest], cur);
+
+            cur = smallest;
+        }
+        move(id, cur);
+    }
+
+    private void move(int id, int index) {
+        heap[index] = id;
+        positions[id] = index;
+    }
+}
@@ -0,0 +1,78 @@
+package ru.nsu.g.stubarev.heapsort;
+
+/**
+ * Пирамидальная сортировка, считающая сравнения, обмены и уровни просеивания.
+ * Уровни — это спуски на одного ребёнка при построении кучи и при извлечении;
+ * в отличие от обменов, в них не входят n - 1 обменов корня с концом кучи,
+ * а отношение сравнений к уровням показывает цену одного шага просеивания.
+ * Счётчики — поля объекта, который создаётся на каждый вызов, поэтому одновременные
+ * вызовы их не делят; в реестр они добавляются один раз в конце вызова.
+ * Короткие отрезки не передаются сортирующей сети, чтобы счётчики относились
+ * к самой пирамидальной сортировке.
+ */
+final class InstrumentedHeapSort {
+    private long comparisons;
+    private long swaps;
+    private long siftLevels;
+
+    private InstrumentedHeapSort() {
+    }
+
+    static void sort(int[] array, int from, int to, SortMetrics metrics) {
+        long start = System.nanoTime();
+        InstrumentedHeapSort counters = new InstrumentedHeapSort();
+        counters.sort(array, from, to);
+        metrics.record(to - from, counters.comparisons, counters.swaps, counters.siftLevels,
+                System.nanoTime() - start);
+    }
+
+    private void sort(int[] array, int from, int to) {
+        int len = to - from;
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(array, from, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            int temp = array[from];
+            array[from] = array[from + i];
+            array[from + i] = temp;
+            swaps++;
+
+            heapify(array, from, i, 0);
+        }
+    }
+
+    private void heapify(int[] array, int from, int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len) {
+                comparisons++;
+                if (array[from + leftChild] > array[from + largest]) {
+                    largest = leftChild;
+                }
+            }
+            if (rightChild < len) {
+                comparisons++;
+                if (array[from + rightChild] > array[from + largest]) {
+                    largest = rightChild;
+                }
+            }
+            if (largest == cur) {
+                break;
+            }
+            int temp = array[from + cur];
+            array[from + cur] = array[from + largest];
+            array[from + largest] = temp;
+            swaps++;
+            siftLevels++;
+
+            cur = largest;
+        }
+    }
+}
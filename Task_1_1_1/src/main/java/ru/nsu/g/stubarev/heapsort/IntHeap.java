@@ -0,0 +1,181 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Растущая очередь с приоритетом для целых чисел на двоичной min-куче.
+ * Элементы хранятся в примитивном массиве и никогда не упаковываются,
+ * clear не освобождает массив, поэтому очередь можно переиспользовать без выделения памяти.
+ */
+public class IntHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] heap;
+    private int size;
+
+    /**
+     * Создаёт пустую очередь.
+     */
+    public IntHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создаёт пустую очередь заданной начальной ёмкости.
+     *
+     * @param initialCapacity начальная ёмкость
+     * @throws IllegalArgumentException если ёмкость отрицательна
+     */
+    public IntHeap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Отрицательная ёмкость: " + initialCapacity);
+        }
+        heap = new int[initialCapacity];
+    }
+
+    /**
+     * Добавляет элемент.
+     *
+     * @param value элемент
+     */
+    public void push(int value) {
+        if (size == heap.length) {
+            grow(size + 1);
+        }
+        heap[size] = value;
+        siftUp(size++);
+    }
+
+    /**
+     * Добавляет все элементы массива и заново строит кучу снизу вверх за O(n).
+     *
+     * @param values элементы
+     */
+    public void pushAll(int[] values) {
+        if (size + values.length > heap.length) {
+            grow(size + values.length);
+        }
+        System.arraycopy(values, 0, heap, size, values.length);
+        size += values.length;
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Возвращает наименьший элемент, не удаляя его.
+     *
+     * @return наименьший элемент
+     * @throws NoSuchElementException если очередь пуста
+     */
+    public int peek() {
+        checkNotEmpty();
+        return heap[0];
+    }
+
+    /**
+     * Удаляет и возвращает наименьший элемент.
+     *
+     * @return наименьший элемент
+     * @throws NoSuchElementException если очередь пуста
+     */
+    public int pop() {
+        checkNotEmpty();
+        int top = heap[0];
+        heap[0] = heap[--size];
+        siftDown(0);
+        return top;
+    }
+
+    /**
+     * Заменяет наименьший элемент новым за одно просеивание.
+     * Быстрее, чем pop и затем push.
+     *
+     * @param value новый элемент
+     * @return удалённый наименьший элемент
+     * @throws NoSuchElementException если очередь пуста
+     */
+    public int replaceTop(int value) {
+        checkNotEmpty();
+        int top = heap[0];
+        heap[0] = value;
+        siftDown(0);
+        return top;
+    }
+
+    /**
+     * Количество элементов.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Пуста ли очередь.
+     *
+     * @return true, если элементов нет
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удаляет все элементы, сохраняя выделенный массив.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Очередь пуста");
+        }
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, heap.length + (heap.length >> 1) + 1);
+        heap = Arrays.copyOf(heap, capacity);
+    }
+
+    private void siftUp(int index) {
+        int cur = index;
+        int value = heap[cur];
+        while (cur > 0) {
+            int parent = (cur - 1) / 2;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[cur] = heap[parent];
+            cur = parent;
+        }
+        heap[cur] = value;
+    }
+
+    private void siftDown(int root) {
+        int cur = root;
+
+        while (true) {
+            int smallest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < size && heap[leftChild] < heap[smallest]) {
+                smallest = leftChild;
+            }
+            if (rightChild < size && heap[rightChild] < heap[smallest]) {
+                smallest = rightChild;
+            }
+            if (smallest == cur) {
+                break;
+            }
+            int temp = heap[cur];
+            heap[cur] = heap[smallest];
+            heap[smallest] = temp;
+
+            cur = smallest;
+        }
+    }
+}
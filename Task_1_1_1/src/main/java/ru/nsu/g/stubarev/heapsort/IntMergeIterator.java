@@ -0,0 +1,57 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Итератор, выдающий по возрастанию все числа нескольких отсортированных массивов.
+ * Промежуточные массивы не создаются: хранится только min-куча номеров серий
+ * и позиция в каждой серии, следующий элемент находится за O(log k).
+ */
+public class IntMergeIterator implements PrimitiveIterator.OfInt {
+    private final int[][] runs;
+    private final int[] cursors;
+    private final int[] ends;
+    private final int[] heap;
+    private int size;
+
+    /**
+     * Создаёт итератор по отсортированным массивам.
+     *
+     * @param runs массивы, каждый отсортирован по возрастанию
+     */
+    public IntMergeIterator(int[]... runs) {
+        this.runs = runs;
+        this.cursors = new int[runs.length];
+        this.ends = new int[runs.length];
+        this.heap = new int[runs.length];
+        for (int i = 0; i < runs.length; i++) {
+            ends[i] = runs[i].length;
+            if (ends[i] > 0) {
+                heap[size++] = i;
+            }
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            RunMerger.siftDown(runs, cursors, heap, size, i);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return size > 0;
+    }
+
+    @Override
+    public int nextInt() {
+        if (size == 0) {
+            throw new NoSuchElementException("Все серии исчерпаны");
+        }
+        int run = heap[0];
+        int value = runs[run][cursors[run]++];
+        if (cursors[run] == ends[run]) {
+            heap[0] = heap[--size];
+        }
+        RunMerger.siftDown(runs, cursors, heap, size, 0);
+        return value;
+    }
+}
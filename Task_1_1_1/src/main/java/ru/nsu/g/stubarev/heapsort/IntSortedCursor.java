@@ -0,0 +1,82 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Ленивый курсор по массиву в порядке возрастания.
+ * Конструктор за O(n) строит из массива min-кучу, как первая фаза Sort.sort,
+ * а каждый вызов nextInt извлекает наименьший элемент за O(log n).
+ * Если остановиться после k элементов, работа составит O(n + k log n) вместо полной сортировки.
+ * Курсор работает прямо в переданном массиве: извлечённые элементы складываются
+ * в его конец, так что после полного обхода массив упорядочен по убыванию.
+ */
+public class IntSortedCursor implements PrimitiveIterator.OfInt {
+    private final int[] heap;
+    private int size;
+
+    /**
+     * Строит кучу из массива.
+     *
+     * @param array массив, который будет переупорядочен
+     */
+    public IntSortedCursor(int[] array) {
+        this.heap = array;
+        this.size = array.length;
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            heapify(i);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return size > 0;
+    }
+
+    @Override
+    public int nextInt() {
+        if (size == 0) {
+            throw new NoSuchElementException("Все элементы уже выданы");
+        }
+        int top = heap[0];
+        size--;
+        heap[0] = heap[size];
+        heap[size] = top;
+        heapify(0);
+        return top;
+    }
+
+    /**
+     * Сколько элементов ещё не выдано.
+     *
+     * @return число оставшихся элементов
+     */
+    public int remaining() {
+        return size;
+    }
+
+    private void heapify(int root) {
+        int cur = root;
+
+        while (true) {
+            int smallest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < size && heap[leftChild] < heap[smallest]) {
+                smallest = leftChild;
+            }
+            if (rightChild < size && heap[rightChild] < heap[smallest]) {
+                smallest = rightChild;
+            }
+            if (smallest == cur) {
+                break;
+            }
+            int temp = heap[cur];
+            heap[cur] = heap[smallest];
+            heap[smallest] = temp;
+
+            cur = smallest;
+        }
+    }
+}
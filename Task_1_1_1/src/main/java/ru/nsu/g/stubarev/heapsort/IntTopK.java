@@ -0,0 +1,142 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.nio.IntBuffer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Накопитель k наименьших чисел потока.
+ * Хранит max-кучу размера k: новое число попадает в неё, только если оно
+ * меньше корня. Обработка n чисел занимает O(n log k) времени и O(k) памяти.
+ * Частичные результаты параллельных обработчиков объединяются методом merge.
+ */
+public class IntTopK implements IntConsumer {
+    private final int[] heap;
+    private int size;
+
+    /**
+     * Создаёт пустой накопитель.
+     *
+     * @param k сколько наименьших чисел хранить
+     * @throws IllegalArgumentException если k отрицательно
+     */
+    public IntTopK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k не может быть отрицательным: " + k);
+        }
+        heap = new int[k];
+    }
+
+    /**
+     * Собирает k наименьших чисел потока, в том числе параллельного.
+     *
+     * @param stream поток чисел
+     * @param k сколько наименьших чисел хранить
+     * @return заполненный накопитель
+     */
+    public static IntTopK of(IntStream stream, int k) {
+        return stream.collect(() -> new IntTopK(k), IntTopK::accept, IntTopK::merge);
+    }
+
+    /**
+     * Учитывает одно число.
+     *
+     * @param value число
+     */
+    @Override
+    public void accept(int value) {
+        if (size < heap.length) {
+            int cur = size++;
+            heap[cur] = value;
+            while (cur > 0) {
+                int parent = (cur - 1) / 2;
+                if (heap[parent] >= heap[cur]) {
+                    break;
+                }
+                int temp = heap[parent];
+                heap[parent] = heap[cur];
+                heap[cur] = temp;
+                cur = parent;
+            }
+        } else if (size > 0 && value < heap[0]) {
+            heap[0] = value;
+            Sort.heapify(heap, 0, size, 0);
+        }
+    }
+
+    /**
+     * Учитывает отрезок [from, to) массива.
+     *
+     * @param array массив
+     * @param from начало отрезка
+     * @param to конец отрезка, не включая
+     * @return этот накопитель
+     */
+    public IntTopK addAll(int[] array, int from, int to) {
+        for (int i = from; i < to; i++) {
+            accept(array[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Учитывает все оставшиеся числа буфера, сдвигая его позицию.
+     *
+     * @param buffer буфер
+     * @return этот накопитель
+     */
+    public IntTopK addAll(IntBuffer buffer) {
+        while (buffer.hasRemaining()) {
+            accept(buffer.get());
+        }
+        return this;
+    }
+
+    /**
+     * Учитывает все числа последовательного потока.
+     *
+     * @param stream поток
+     * @return этот накопитель
+     */
+    public IntTopK addAll(IntStream stream) {
+        stream.sequential().forEach(this);
+        return this;
+    }
+
+    /**
+     * Добавляет результат другого накопителя.
+     *
+     * @param other другой накопитель
+     * @return этот накопитель
+     */
+    public IntTopK merge(IntTopK other) {
+        return addAll(other.heap, 0, other.size);
+    }
+
+    /**
+     * Количество накопленных чисел, не больше k.
+     *
+     * @return количество чисел
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Накопленные числа по возрастанию. Сам накопитель не меняется.
+     *
+     * @return новый отсортированный массив
+     */
+    public int[] toSortedArray() {
+        int[] result = new int[size];
+        System.arraycopy(heap, 0, result, 0, size);
+        for (int i = size - 1; i > 0; i--) {
+            int temp = result[0];
+            result[0] = result[i];
+            result[i] = temp;
+
+            Sort.heapify(result, 0, i, 0);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,153 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Пирамидальная сортировка массивов объектов.
+ * Для сортировки по числовому ключу ключи один раз извлекаются в параллельный
+ * примитивный массив, и в цикле просеивания сравниваются только они.
+ */
+final class ObjectHeapSort {
+
+    private ObjectHeapSort() {
+    }
+
+    static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        int len = array.length;
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(array, comparator, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            swap(array, 0, i);
+            heapify(array, comparator, i, 0);
+        }
+    }
+
+    private static <T> void heapify(T[] array, Comparator<? super T> comparator,
+                                    int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len && comparator.compare(array[leftChild], array[largest]) > 0) {
+                largest = leftChild;
+            }
+            if (rightChild < len && comparator.compare(array[rightChild], array[largest]) > 0) {
+                largest = rightChild;
+            }
+            if (largest == cur) {
+                break;
+            }
+            swap(array, cur, largest);
+
+            cur = largest;
+        }
+    }
+
+    static <T> void sortByInt(T[] array, ToIntFunction<? super T> keyExtractor) {
+        int len = array.length;
+        int[] keys = new int[len];
+        for (int i = 0; i < len; i++) {
+            keys[i] = keyExtractor.applyAsInt(array[i]);
+        }
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(keys, array, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            swap(keys, array, 0, i);
+            heapify(keys, array, i, 0);
+        }
+    }
+
+    private static void heapify(int[] keys, Object[] array, int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len && keys[leftChild] > keys[largest]) {
+                largest = leftChild;
+            }
+            if (rightChild < len && keys[rightChild] > keys[largest]) {
+                largest = rightChild;
+            }
+            if (largest == cur) {
+                break;
+            }
+            swap(keys, array, cur, largest);
+
+            cur = largest;
+        }
+    }
+
+    static <T> void sortByLong(T[] array, ToLongFunction<? super T> keyExtractor) {
+        int len = array.length;
+        long[] keys = new long[len];
+        for (int i = 0; i < len; i++) {
+            keys[i] = keyExtractor.applyAsLong(array[i]);
+        }
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(keys, array, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            swap(keys, array, 0, i);
+            heapify(keys, array, i, 0);
+        }
+    }
+
+    private static void heapify(long[] keys, Object[] array, int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len && keys[leftChild] > keys[largest]) {
+                largest = leftChild;
+            }
+            if (rightChild < len && keys[rightChild] > keys[largest]) {
+                largest = rightChild;
+            }
+            if (largest == cur) {
+                break;
+            }
+            swap(keys, array, cur, largest);
+
+            cur = largest;
+        }
+    }
+
+    private static void swap(Object[] array, int i, int j) {
+        Object temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static void swap(int[] keys, Object[] array, int i, int j) {
+        int temp = keys[i];
+        keys[i] = keys[j];
+        keys[j] = temp;
+        swap(array, i, j);
+    }
+
+    private static void swap(long[] keys, Object[] array, int i, int j) {
+        long temp = keys[i];
+        keys[i] = keys[j];
+        keys[j] = temp;
+        swap(array, i, j);
+    }
+}
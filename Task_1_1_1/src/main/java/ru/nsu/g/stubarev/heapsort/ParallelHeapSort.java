@@ -0,0 +1,152 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Параллельная пирамидальная сортировка на ForkJoinPool.
+ * Массив делится пополам до куска не длиннее порога, куски сортируются
+ * последовательно, отсортированные половины сливаются параллельно через буфер.
+ */
+final class ParallelHeapSort {
+
+    static final int MIN_THRESHOLD = 1 << 13;
+
+    private ParallelHeapSort() {
+    }
+
+    static void sort(int[] array, ForkJoinPool pool) {
+        int chunk = array.length / (pool.getParallelism() << 2);
+        sort(array, pool, Math.max(MIN_THRESHOLD, chunk));
+    }
+
+    static void sort(int[] array, ForkJoinPool pool, int threshold) {
+        Objects.requireNonNull(array, "array");
+        Objects.requireNonNull(pool, "pool");
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Порог должен быть положительным: " + threshold);
+        }
+        if (array.length <= threshold || pool.getParallelism() == 1) {
+            Sort.heapSort(array, 0, array.length);
+            return;
+        }
+        int[] buffer = new int[array.length];
+        pool.invoke(new SortTask(array, buffer, 0, array.length, threshold));
+    }
+
+    /**
+     * Сортирует отрезок [from, to) массива, используя тот же отрезок буфера.
+     */
+    private static final class SortTask extends RecursiveAction {
+        private final int[] array;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        SortTask(int[] array, int[] buffer, int from, int to, int threshold) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                Sort.heapSort(array, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(array, buffer, from, mid, threshold),
+                    new SortTask(array, buffer, mid, to, threshold));
+            System.arraycopy(array, from, buffer, from, to - from);
+            new MergeTask(buffer, array, from, mid, mid, to, from, threshold).compute();
+        }
+    }
+
+    /**
+     * Сливает отсортированные отрезки [lo1, hi1) и [lo2, hi2) из src в dst с позиции pos.
+     */
+    private static final class MergeTask extends RecursiveAction {
+        private final int[] src;
+        private final int[] dst;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final int pos;
+        private final int threshold;
+
+        MergeTask(int[] src, int[] dst, int lo1, int hi1, int lo2, int hi2, int pos,
+                  int threshold) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.pos = pos;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int len1 = hi1 - lo1;
+            int len2 = hi2 - lo2;
+            if (len1 + len2 <= threshold) {
+                merge(src, lo1, hi1, lo2, hi2, dst, pos);
+                return;
+            }
+            int mid1;
+            int mid2;
+            if (len1 >= len2) {
+                mid1 = (lo1 + hi1) >>> 1;
+                mid2 = lowerBound(src, lo2, hi2, src[mid1]);
+            } else {
+                mid2 = (lo2 + hi2) >>> 1;
+                mid1 = lowerBound(src, lo1, hi1, src[mid2]);
+            }
+            int split = pos + (mid1 - lo1) + (mid2 - lo2);
+            if (split == pos || split == pos + len1 + len2) {
+                // Разбиение не уменьшило задачу, например при len1 == len2 == 1.
+                merge(src, lo1, hi1, lo2, hi2, dst, pos);
+                return;
+            }
+            MergeTask left = new MergeTask(src, dst, lo1, mid1, lo2, mid2, pos, threshold);
+            MergeTask right = new MergeTask(src, dst, mid1, hi1, mid2, hi2, split, threshold);
+            invokeAll(left, right);
+        }
+    }
+
+    static void merge(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int pos) {
+        int i = lo1;
+        int j = lo2;
+        int k = pos;
+        while (i < hi1 && j < hi2) {
+            if (src[j] < src[i]) {
+                dst[k++] = src[j++];
+            } else {
+                dst[k++] = src[i++];
+            }
+        }
+        System.arraycopy(src, i, dst, k, hi1 - i);
+        System.arraycopy(src, j, dst, k + hi1 - i, hi2 - j);
+    }
+
+    static int lowerBound(int[] array, int from, int to, int key) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (array[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
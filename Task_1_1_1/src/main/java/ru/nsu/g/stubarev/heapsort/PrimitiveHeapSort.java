@@ -0,0 +1,270 @@
+package ru.nsu.g.stubarev.heapsort;
+
+/**
+ * Пирамидальная сортировка для массивов остальных примитивных типов.
+ * Каждая пара sort/heapify повторяет пирамидальную часть версии для int из {@link Sort},
+ * меняется только тип элемента и сравнение.
+ * Вещественные числа упорядочиваются как в Double.compare и Float.compare:
+ * -0.0 меньше 0.0, NaN больше любого другого значения.
+ * Базовый случай для коротких отрезков, сеть {@link SortingNetwork}, есть только
+ * у float, как и у int; остальные типы сортируются пирамидой при любой длине.
+ */
+final class PrimitiveHeapSort {
+
+    private PrimitiveHeapSort() {
+    }
+
+    static void sort(long[] array, int from, int to) {
+        int len = to - from;
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(array, from, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            long temp = array[from];
+            array[from] = array[from + i];
+            array[from + i] = temp;
+
+            heapify(array, from, i, 0);
+        }
+    }
+
+    private static void heapify(long[] array, int from, int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len && array[from + leftChild] > array[from + largest]) {
+                largest = leftChild;
+            }
+            if (rightChild < len && array[from + rightChild] > array[from + largest]) {
+                largest = rightChild;
+            }
+            if (largest == cur) {
+                break;
+            }
+            long temp = array[from + cur];
+            array[from + cur] = array[from + largest];
+            array[from + largest] = temp;
+
+            cur = largest;
+        }
+    }
+
+    static void sort(double[] array, int from, int to) {
+        int len = to - from;
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(array, from, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            double temp = array[from];
+            array[from] = array[from + i];
+            array[from + i] = temp;
+
+            heapify(array, from, i, 0);
+        }
+    }
+
+    private static void heapify(double[] array, int from, int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len
+                    && Double.compare(array[from + leftChild], array[from + largest]) > 0) {
+                largest = leftChild;
+            }
+            if (rightChild < len
+                    && Double.compare(array[from + rightChild], array[from + largest]) > 0) {
+                largest = rightChild;
+            }
+            if (largest == cur) {
+                break;
+            }
+            double temp = array[from + cur];
+            array[from + cur] = array[from + largest];
+            array[from + largest] = temp;
+
+            cur = largest;
+        }
+    }
+
+    static void sort(float[] array, int from, int to) {
+        int len = to - from;
+        if (len <= SortingNetwork.MAX_SIZE) {
+            SortingNetwork.sort(array, from, to);
+            return;
+        }
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(array, from, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            float temp = array[from];
+            array[from] = array[from + i];
+            array[from + i] = temp;
+
+            heapify(array, from, i, 0);
+        }
+    }
+
+    private static void heapify(float[] array, int from, int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len
+                    && Float.compare(array[from + leftChild], array[from + largest]) > 0) {
+                largest = leftChild;
+            }
+            if (rightChild < len
+                    && Float.compare(array[from + rightChild], array[from + largest]) > 0) {
+                largest = rightChild;
+            }
+            if (largest == cur) {
+                break;
+            }
+            float temp = array[from + cur];
+            array[from + cur] = array[from + largest];
+            array[from + largest] = temp;
+
+            cur = largest;
+        }
+    }
+
+    static void sort(short[] array, int from, int to) {
+        int len = to - from;
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(array, from, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            short temp = array[from];
+            array[from] = array[from + i];
+            array[from + i] = temp;
+
+            heapify(array, from, i, 0);
+        }
+    }
+
+    private static void heapify(short[] array, int from, int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len && array[from + leftChild] > array[from + largest]) {
+                largest = leftChild;
+            }
+            if (rightChild < len && array[from + rightChild] > array[from + largest]) {
+                largest = rightChild;
+            }
+            if (largest == cur) {
+                break;
+            }
+            short temp = array[from + cur];
+            array[from + cur] = array[from + largest];
+            array[from + largest] = temp;
+
+            cur = largest;
+        }
+    }
+
+    static void sort(char[] array, int from, int to) {
+        int len = to - from;
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(array, from, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            char temp = array[from];
+            array[from] = array[from + i];
+            array[from + i] = temp;
+
+            heapify(array, from, i, 0);
+        }
+    }
+
+    private static void heapify(char[] array, int from, int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len && array[from + leftChild] > array[from + largest]) {
+                largest = leftChild;
+            }
+            if (rightChild < len && array[from + rightChild] > array[from + largest]) {
+                largest = rightChild;
+            }
+            if (largest == cur) {
+                break;
+            }
+            char temp = array[from + cur];
+            array[from + cur] = array[from + largest];
+            array[from + largest] = temp;
+
+            cur = largest;
+        }
+    }
+
+    static void sort(byte[] array, int from, int to) {
+        int len = to - from;
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            heapify(array, from, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            byte temp = array[from];
+            array[from] = array[from + i];
+            array[from + i] = temp;
+
+            heapify(array, from, i, 0);
+        }
+    }
+
+    private static void heapify(byte[] array, int from, int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len && array[from + leftChild] > array[from + largest]) {
+                largest = leftChild;
+            }
+            if (rightChild < len && array[from + rightChild] > array[from + largest]) {
+                largest = rightChild;
+            }
+            if (largest == cur) {
+                break;
+            }
+            byte temp = array[from + cur];
+            array[from + cur] = array[from + largest];
+            array[from + largest] = temp;
+
+            cur = largest;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.Arrays;
+
+/**
+ * Поразрядная сортировка LSD для массивов int и long.
+ * Числа int сортируются за 4 прохода по 8 бит, long — за 6 проходов по 11 бит.
+ * Гистограммы всех разрядов строятся за один проход по данным, и разряд,
+ * одинаковый у всех чисел, пропускается без перекладывания.
+ * Вспомогательный буфер и гистограммы хранятся в объекте и переиспользуются между
+ * вызовами, поэтому один объект нельзя использовать из нескольких потоков одновременно.
+ * Гистограммы для int и для long создаются при первой сортировке своего типа.
+ */
+public class RadixSorter {
+    private static final int INT_BITS = 8;
+    private static final int INT_PASSES = Integer.SIZE / INT_BITS;
+    private static final int LONG_BITS = 11;
+    private static final int LONG_PASSES = (Long.SIZE + LONG_BITS - 1) / LONG_BITS;
+
+    private int[] intScratch = new int[0];
+    private long[] longScratch = new long[0];
+    private int[][] intCounts;
+    private int[][] longCounts;
+
+    /**
+     * Сортирует массив целых чисел.
+     *
+     * @param array массив для сортировки
+     */
+    public void sort(int[] array) {
+        int len = array.length;
+        if (intScratch.length < len) {
+            intScratch = new int[len];
+        }
+        int mask = (1 << INT_BITS) - 1;
+        if (intCounts == null) {
+            intCounts = new int[INT_PASSES][1 << INT_BITS];
+        } else {
+            for (int[] counts : intCounts) {
+                Arrays.fill(counts, 0);
+            }
+        }
+        for (int value : array) {
+            int key = value ^ Integer.MIN_VALUE;
+            for (int pass = 0; pass < INT_PASSES; pass++) {
+                intCounts[pass][(key >>> (pass * INT_BITS)) & mask]++;
+            }
+        }
+
+        int[] src = array;
+        int[] dst = intScratch;
+        for (int pass = 0; pass < INT_PASSES; pass++) {
+            int[] counts = intCounts[pass];
+            if (!toOffsets(counts, len)) {
+                continue;
+            }
+            int shift = pass * INT_BITS;
+            for (int i = 0; i < len; i++) {
+                int value = src[i];
+                dst[counts[((value ^ Integer.MIN_VALUE) >>> shift) & mask]++] = value;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != array) {
+            System.arraycopy(src, 0, array, 0, len);
+        }
+    }
+
+    /**
+     * Сортирует массив чисел long.
+     *
+     * @param array массив для сортировки
+     */
+    public void sort(long[] array) {
+        int len = array.length;
+        if (longScratch.length < len) {
+            longScratch = new long[len];
+        }
+        int mask = (1 << LONG_BITS) - 1;
+        if (longCounts == null) {
+            longCounts = new int[LONG_PASSES][1 << LONG_BITS];
+        } else {
+            for (int[] counts : longCounts) {
+                Arrays.fill(counts, 0);
+            }
+        }
+        for (long value : array) {
+            long key = value ^ Long.MIN_VALUE;
+            for (int pass = 0; pass < LONG_PASSES; pass++) {
+                longCounts[pass][(int) (key >>> (pass * LONG_BITS)) & mask]++;
+            }
+        }
+
+        long[] src = array;
+        long[] dst = longScratch;
+        for (int pass = 0; pass < LONG_PASSES; pass++) {
+            int[] counts = longCounts[pass];
+            if (!toOffsets(counts, len)) {
+                continue;
+            }
+            int shift = pass * LONG_BITS;
+            for (int i = 0; i < len; i++) {
+                long value = src[i];
+                dst[counts[(int) ((value ^ Long.MIN_VALUE) >>> shift) & mask]++] = value;
+            }
+            long[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != array) {
+            System.arraycopy(src, 0, array, 0, len);
+        }
+    }
+
+    /**
+     * Превращает гистограмму разряда в начальные позиции корзин.
+     * Возвращает false, если все числа попали в одну корзину и проход не нужен.
+     */
+    private static boolean toOffsets(int[] counts, int len) {
+        int offset = 0;
+        for (int digit = 0; digit < counts.length; digit++) {
+            int count = counts[digit];
+            if (count == len) {
+                return false;
+            }
+            counts[digit] = offset;
+            offset += count;
+        }
+        return true;
+    }
+}
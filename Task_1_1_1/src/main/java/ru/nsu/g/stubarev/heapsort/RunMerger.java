@@ -0,0 +1,187 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Слияние многих отсортированных массивов через min-кучу номеров серий.
+ * Параллельный вариант делит выход на равные части: для каждой границы
+ * двоичным поиском по значению находятся позиции разреза во всех сериях,
+ * после чего части сливаются независимо.
+ */
+final class RunMerger {
+
+    private RunMerger() {
+    }
+
+    static int[] merge(int[][] runs) {
+        int[] out = new int[totalLength(runs)];
+        int[] from = new int[runs.length];
+        int[] to = new int[runs.length];
+        for (int i = 0; i < runs.length; i++) {
+            to[i] = runs[i].length;
+        }
+        merge(runs, from, to, out, 0);
+        return out;
+    }
+
+    static int[] parallelMerge(int[][] runs, ForkJoinPool pool, int parts) {
+        Objects.requireNonNull(pool, "pool");
+        if (parts < 1) {
+            throw new IllegalArgumentException("Число частей должно быть положительным: " + parts);
+        }
+        int total = totalLength(runs);
+        int[] out = new int[total];
+        int[][] splits = new int[parts + 1][];
+        for (int p = 0; p <= parts; p++) {
+            splits[p] = split(runs, (int) ((long) total * p / parts));
+        }
+        List<RecursiveAction> tasks = new ArrayList<>();
+        int pos = 0;
+        for (int p = 0; p < parts; p++) {
+            int[] from = splits[p];
+            int[] to = splits[p + 1];
+            int start = pos;
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    merge(runs, from, to, out, start);
+                }
+            });
+            for (int i = 0; i < runs.length; i++) {
+                pos += to[i] - from[i];
+            }
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+        return out;
+    }
+
+    private static int totalLength(int[][] runs) {
+        long total = 0;
+        for (int[] run : runs) {
+            total += run.length;
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Результат не помещается в массив: " + total);
+        }
+        return (int) total;
+    }
+
+    /**
+     * Сливает отрезки [from[i], to[i]) всех серий в out начиная с pos.
+     */
+    static void merge(int[][] runs, int[] from, int[] to, int[] out, int pos) {
+        int[] cursors = from.clone();
+        int[] heap = new int[runs.length];
+        int size = 0;
+        for (int i = 0; i < runs.length; i++) {
+            if (cursors[i] < to[i]) {
+                heap[size++] = i;
+            }
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(runs, cursors, heap, size, i);
+        }
+        int k = pos;
+        while (size > 0) {
+            int run = heap[0];
+            out[k++] = runs[run][cursors[run]++];
+            if (cursors[run] == to[run]) {
+                heap[0] = heap[--size];
+            }
+            siftDown(runs, cursors, heap, size, 0);
+        }
+    }
+
+    static void siftDown(int[][] runs, int[] cursors, int[] heap, int len, int root) {
+        int cur = root;
+
+        while (true) {
+            int smallest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len && head(runs, cursors, heap[leftChild])
+                    < head(runs, cursors, heap[smallest])) {
+                smallest = leftChild;
+            }
+            if (rightChild < len && head(runs, cursors, heap[rightChild])
+                    < head(runs, cursors, heap[smallest])) {
+                smallest = rightChild;
+            }
+            if (smallest == cur) {
+                break;
+            }
+            int temp = heap[cur];
+            heap[cur] = heap[smallest];
+            heap[smallest] = temp;
+
+            cur = smallest;
+        }
+    }
+
+    private static int head(int[][] runs, int[] cursors, int run) {
+        return runs[run][cursors[run]];
+    }
+
+    /**
+     * Находит позиции разреза в сериях, такие что слева ровно rank элементов
+     * и каждый из них не больше любого элемента справа.
+     */
+    static int[] split(int[][] runs, long rank) {
+        long lo = Integer.MIN_VALUE;
+        long hi = Integer.MAX_VALUE;
+        while (lo < hi) {
+            long mid = (lo + hi) >> 1;
+            if (countAtMost(runs, (int) mid) >= rank) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        int value = (int) lo;
+        int[] cut = new int[runs.length];
+        long remaining = rank;
+        for (int i = 0; i < runs.length; i++) {
+            cut[i] = ParallelHeapSort.lowerBound(runs[i], 0, runs[i].length, value);
+            remaining -= cut[i];
+        }
+        for (int i = 0; i < runs.length && remaining > 0; i++) {
+            int equal = upperBound(runs[i], value) - cut[i];
+            int take = (int) Math.min(equal, remaining);
+            cut[i] += take;
+            remaining -= take;
+        }
+        return cut;
+    }
+
+    private static long countAtMost(int[][] runs, int value) {
+        long count = 0;
+        for (int[] run : runs) {
+            count += upperBound(run, value);
+        }
+        return count;
+    }
+
+    private static int upperBound(int[] array, int key) {
+        int lo = 0;
+        int hi = array.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (array[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
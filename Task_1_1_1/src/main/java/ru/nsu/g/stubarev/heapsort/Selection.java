@@ -0,0 +1,91 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.Arrays;
+
+/**
+ * Поиск порядковых статистик без полной сортировки (introselect).
+ * Отрезок разбивается на три части относительно медианы трёх, и дальше
+ * обрабатываются только части, содержащие искомые ранги. Если глубина разбиений
+ * превысила 2 log2 n, отрезок досортировывается пирамидальной сортировкой,
+ * поэтому худший случай — O(n log n). Несколько рангов ищутся за один общий спуск.
+ */
+final class Selection {
+    private static final int INSERTION_THRESHOLD = 16;
+
+    private Selection() {
+    }
+
+    static int select(int[] array, int k) {
+        select(array, new int[]{k});
+        return array[k];
+    }
+
+    static int[] percentiles(int[] array, double[] percents) {
+        if (array.length == 0) {
+            throw new IllegalArgumentException("Перцентили пустого массива не определены");
+        }
+        int[] ranks = new int[percents.length];
+        for (int i = 0; i < percents.length; i++) {
+            double p = percents[i];
+            if (!(p >= 0 && p <= 100)) {
+                throw new IllegalArgumentException("Перцентиль вне [0, 100]: " + p);
+            }
+            int rank = (int) Math.ceil(p * array.length / 100.0) - 1;
+            ranks[i] = Math.max(0, Math.min(array.length - 1, rank));
+        }
+        select(array, ranks);
+        int[] result = new int[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            result[i] = array[ranks[i]];
+        }
+        return result;
+    }
+
+    private static void select(int[] array, int[] ranks) {
+        int[] sorted = ranks.clone();
+        Arrays.sort(sorted);
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(array.length));
+        select(array, 0, array.length, sorted, 0, sorted.length, depth);
+    }
+
+    private static void select(int[] array, int lo, int hi, int[] ranks, int rlo, int rhi,
+                               int depth) {
+        while (rlo < rhi) {
+            if (hi - lo <= INSERTION_THRESHOLD) {
+                AdaptiveSort.insertionSort(array, lo, hi);
+                return;
+            }
+            if (depth-- == 0) {
+                Sort.heapSort(array, lo, hi);
+                return;
+            }
+            int pivot = medianOfThree(array[lo], array[(lo + hi) >>> 1], array[hi - 1]);
+
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i < gt) {
+                int value = array[i];
+                if (value < pivot) {
+                    array[i++] = array[lt];
+                    array[lt++] = value;
+                } else if (value > pivot) {
+                    array[i] = array[--gt];
+                    array[gt] = value;
+                } else {
+                    i++;
+                }
+            }
+
+            int leftEnd = ParallelHeapSort.lowerBound(ranks, rlo, rhi, lt);
+            int rightStart = ParallelHeapSort.lowerBound(ranks, leftEnd, rhi, gt);
+            select(array, lo, lt, ranks, rlo, leftEnd, depth);
+            lo = gt;
+            rlo = rightStart;
+        }
+    }
+
+    private static int medianOfThree(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+}
@@ -0,0 +1,186 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.Comparator;
+
+/**
+ * Пирамидальная сортировка с выбором способа просеивания и подсчётом сравнений.
+ * Счётчик — локальная переменная, так что подсчёт почти ничего не стоит.
+ */
+final class SiftHeapSort {
+
+    private SiftHeapSort() {
+    }
+
+    static long sort(int[] array, SiftStrategy strategy) {
+        int len = array.length;
+        boolean bottomUp = strategy == SiftStrategy.BOTTOM_UP;
+        long comparisons = 0;
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            comparisons += bottomUp ? siftBottomUp(array, len, i) : heapify(array, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            int temp = array[0];
+            array[0] = array[i];
+            array[i] = temp;
+
+            comparisons += bottomUp ? siftBottomUp(array, i, 0) : heapify(array, i, 0);
+        }
+        return comparisons;
+    }
+
+    private static long heapify(int[] array, int len, int root) {
+        long comparisons = 0;
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len) {
+                comparisons++;
+                if (array[leftChild] > array[largest]) {
+                    largest = leftChild;
+                }
+            }
+            if (rightChild < len) {
+                comparisons++;
+                if (array[rightChild] > array[largest]) {
+                    largest = rightChild;
+                }
+            }
+            if (largest == cur) {
+                break;
+            }
+            int temp = array[cur];
+            array[cur] = array[largest];
+            array[largest] = temp;
+
+            cur = largest;
+        }
+        return comparisons;
+    }
+
+    private static long siftBottomUp(int[] array, int len, int root) {
+        long comparisons = 0;
+        int leaf = root;
+        while (2 * leaf + 2 < len) {
+            comparisons++;
+            leaf = array[2 * leaf + 2] > array[2 * leaf + 1] ? 2 * leaf + 2 : 2 * leaf + 1;
+        }
+        if (2 * leaf + 1 < len) {
+            leaf = 2 * leaf + 1;
+        }
+
+        int value = array[root];
+        while (leaf != root) {
+            comparisons++;
+            if (array[leaf] >= value) {
+                break;
+            }
+            leaf = (leaf - 1) / 2;
+        }
+
+        int carried = array[leaf];
+        array[leaf] = value;
+        while (leaf > root) {
+            leaf = (leaf - 1) / 2;
+            int temp = array[leaf];
+            array[leaf] = carried;
+            carried = temp;
+        }
+        return comparisons;
+    }
+
+    static <T> long sort(T[] array, Comparator<? super T> comparator, SiftStrategy strategy) {
+        int len = array.length;
+        boolean bottomUp = strategy == SiftStrategy.BOTTOM_UP;
+        long comparisons = 0;
+
+        for (int i = len / 2 - 1; i >= 0; i--) {
+            comparisons += bottomUp
+                    ? siftBottomUp(array, comparator, len, i)
+                    : heapify(array, comparator, len, i);
+        }
+
+        for (int i = len - 1; i > 0; i--) {
+            T temp = array[0];
+            array[0] = array[i];
+            array[i] = temp;
+
+            comparisons += bottomUp
+                    ? siftBottomUp(array, comparator, i, 0)
+                    : heapify(array, comparator, i, 0);
+        }
+        return comparisons;
+    }
+
+    private static <T> long heapify(T[] array, Comparator<? super T> comparator,
+                                    int len, int root) {
+        long comparisons = 0;
+        int cur = root;
+
+        while (true) {
+            int largest = cur;
+            int leftChild = 2 * cur + 1;
+            int rightChild = 2 * cur + 2;
+
+            if (leftChild < len) {
+                comparisons++;
+                if (comparator.compare(array[leftChild], array[largest]) > 0) {
+                    largest = leftChild;
+                }
+            }
+            if (rightChild < len) {
+                comparisons++;
+                if (comparator.compare(array[rightChild], array[largest]) > 0) {
+                    largest = rightChild;
+                }
+            }
+            if (largest == cur) {
+                break;
+            }
+            T temp = array[cur];
+            array[cur] = array[largest];
+            array[largest] = temp;
+
+            cur = largest;
+        }
+        return comparisons;
+    }
+
+    private static <T> long siftBottomUp(T[] array, Comparator<? super T> comparator,
+                                         int len, int root) {
+        long comparisons = 0;
+        int leaf = root;
+        while (2 * leaf + 2 < len) {
+            comparisons++;
+            leaf = comparator.compare(array[2 * leaf + 2], array[2 * leaf + 1]) > 0
+                    ? 2 * leaf + 2 : 2 * leaf + 1;
+        }
+        if (2 * leaf + 1 < len) {
+            leaf = 2 * leaf + 1;
+        }
+
+        T value = array[root];
+        while (leaf != root) {
+            comparisons++;
+            if (comparator.compare(array[leaf], value) >= 0) {
+                break;
+            }
+            leaf = (leaf - 1) / 2;
+        }
+
+        T carried = array[leaf];
+        array[leaf] = value;
+        while (leaf > root) {
+            leaf = (leaf - 1) / 2;
+            T temp = array[leaf];
+            array[leaf] = carried;
+            carried = temp;
+        }
+        return comparisons;
+    }
+}
@@ -0,0 +1,20 @@
+package ru.nsu.g.stubarev.heapsort;
+
+/**
+ * Способ просеивания элемента вниз по куче.
+ */
+public enum SiftStrategy {
+    /**
+     * Обычное просеивание: на каждом уровне два сравнения, выбор наибольшего
+     * из детей и сравнение его с просеиваемым элементом.
+     */
+    CLASSIC,
+
+    /**
+     * Просеивание снизу вверх (Floyd, Wegener): спуск до листа по пути наибольших
+     * детей с одним сравнением на уровень, затем подъём до места элемента.
+     * Элемент, взятый из конца массива, почти всегда опускается до самого низа,
+     * поэтому сравнений получается примерно вдвое меньше.
+     */
+    BOTTOM_UP
+}
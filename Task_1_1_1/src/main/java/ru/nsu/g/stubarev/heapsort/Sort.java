@@ -1,10 +1,37 @@
 package ru.nsu.g.stubarev.heapsort;
 
+import java.nio.IntBuffer;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 /**
  * Класс Sort содержит в себе методы для пиромидальной сортировки.
  * Содержит метод sort и heapify
  */
 public class Sort {
+    /**
+     * С какой длины поразрядная сортировка int быстрее пирамидальной, включая создание
+     * {@link RadixSorter} на каждый вызов. Замер по схеме RadixThresholdBenchmark
+     * на случайных данных дал пересечение между 96 и 128 элементами.
+     */
+    static final int RADIX_THRESHOLD = 1 << 7;
+
+    /**
+     * То же для long: шесть проходов по 2048 корзин окупаются позже, пересечение
+     * около 450 элементов.
+     */
+    static final int LONG_RADIX_THRESHOLD = 1 << 9;
+
+    /**
+     * Включена ли инструментация Sort.sort(int[]): системное свойство
+     * ru.nsu.g.stubarev.heapsort.instrumented=true. Поле static final, поэтому
+     * при выключенной инструментации JIT убирает проверку целиком.
+     */
+    static final boolean INSTRUMENTED =
+            Boolean.getBoolean("ru.nsu.g.stubarev.heapsort.instrumented");
 
     /**
      * Метод sort сортирует массив целых чисел.
@@ -12,22 +39,516 @@ public class Sort {
      * @param array массив для сортировки
      */
     public static void sort(int[] array) {
-        int len = array.length;
+        if (INSTRUMENTED) {
+            InstrumentedHeapSort.sort(array, 0, array.length, SortMetrics.global());
+            return;
+        }
+        heapSort(array, 0, array.length);
+    }
+
+    /**
+     * Сортирует отрезок [from, to) массива целых чисел, не трогая остальное.
+     *
+     * @param array массив
+     * @param from начало отрезка
+     * @param to конец отрезка, не включая
+     * @throws IndexOutOfBoundsException если отрезок выходит за границы массива
+     */
+    public static void sort(int[] array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.length);
+        if (INSTRUMENTED) {
+            InstrumentedHeapSort.sort(array, from, to, SortMetrics.global());
+            return;
+        }
+        heapSort(array, from, to);
+    }
+
+    /**
+     * Сортирует массив целых чисел, записывая число сравнений, обменов,
+     * уровней просеивания и время вызова в заданный реестр.
+     *
+     * @param array массив для сортировки
+     * @param metrics реестр счётчиков
+     */
+    public static void sort(int[] array, SortMetrics metrics) {
+        InstrumentedHeapSort.sort(array, 0, array.length, metrics);
+    }
+
+    /**
+     * Сортирует массив целых чисел на куче заданной арности.
+     * На больших массивах 4- и 8-арная куча реже промахивается мимо кэша,
+     * чем двоичная; где проходит граница, показывает бенчмарк AritySortBenchmark.
+     *
+     * @param array массив для сортировки
+     * @param arity число детей у узла кучи: 2, 4 или 8
+     * @throws IllegalArgumentException если арность не 2, 4 или 8
+     */
+    public static void sortDary(int[] array, int arity) {
+        DaryHeapSort.sort(array, 0, array.length, arity);
+    }
+
+    /**
+     * Сортирует массив целых чисел заданным способом просеивания.
+     *
+     * @param array массив для сортировки
+     * @param strategy способ просеивания
+     * @return число выполненных сравнений элементов
+     */
+    public static long sort(int[] array, SiftStrategy strategy) {
+        return SiftHeapSort.sort(array, strategy);
+    }
+
+    /**
+     * Адаптивная сортировка массива целых чисел. Оценивает, насколько массив
+     * уже упорядочен, и выбирает сортировку вставками, слияние серий или
+     * пирамидальную сортировку.
+     *
+     * @param array массив для сортировки
+     * @return выбранный способ и признаки входных данных
+     */
+    public static AdaptiveSortStats adaptiveSort(int[] array) {
+        return AdaptiveSort.sort(array);
+    }
+
+    /**
+     * Поразрядная сортировка массива целых чисел.
+     * На равномерно распределённых ключах заметно быстрее сравнивающих сортировок.
+     * Для многократных вызовов без выделения памяти используйте {@link RadixSorter}.
+     *
+     * @param array массив для сортировки
+     */
+    public static void radixSort(int[] array) {
+        new RadixSorter().sort(array);
+    }
+
+    /**
+     * Поразрядная сортировка массива чисел long.
+     *
+     * @param array массив для сортировки
+     */
+    public static void radixSort(long[] array) {
+        new RadixSorter().sort(array);
+    }
+
+    /**
+     * Сортирует массив целых чисел, выбирая способ по размеру: короткие массивы
+     * пирамидальной сортировкой, длинные поразрядной.
+     *
+     * @param array массив для сортировки
+     */
+    public static void autoSort(int[] array) {
+        if (array.length < RADIX_THRESHOLD) {
+            heapSort(array, 0, array.length);
+        } else {
+            radixSort(array);
+        }
+    }
+
+    /**
+     * Сортирует массив и убирает повторы: после вызова первые count элементов
+     * строго возрастают, содержимое остальных не определено.
+     *
+     * @param array массив для сортировки
+     * @return count — число различных элементов
+     */
+    public static int sortDistinct(int[] array) {
+        autoSort(array);
+        if (array.length == 0) {
+            return 0;
+        }
+        int count = 1;
+        for (int i = 1; i < array.length; i++) {
+            if (array[i] != array[count - 1]) {
+                array[count++] = array[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Сортирует массив длинных целых чисел.
+     *
+     * @param array массив для сортировки
+     */
+    public static void sort(long[] array) {
+        PrimitiveHeapSort.sort(array, 0, array.length);
+    }
+
+    /**
+     * Сортирует массив чисел double.
+     * -0.0 считается меньше 0.0, NaN ставятся в конец.
+     *
+     * @param array массив для сортировки
+     */
+    public static void sort(double[] array) {
+        PrimitiveHeapSort.sort(array, 0, array.length);
+    }
+
+    /**
+     * Сортирует массив чисел float.
+     * -0.0 считается меньше 0.0, NaN ставятся в конец.
+     *
+     * @param array массив для сортировки
+     */
+    public static void sort(float[] array) {
+        PrimitiveHeapSort.sort(array, 0, array.length);
+    }
+
+    /**
+     * Сортирует массив чисел short.
+     *
+     * @param array массив для сортировки
+     */
+    public static void sort(short[] array) {
+        PrimitiveHeapSort.sort(array, 0, array.length);
+    }
+
+    /**
+     * Сортирует массив символов.
+     *
+     * @param array массив для сортировки
+     */
+    public static void sort(char[] array) {
+        PrimitiveHeapSort.sort(array, 0, array.length);
+    }
+
+    /**
+     * Сортирует массив байтов.
+     *
+     * @param array массив для сортировки
+     */
+    public static void sort(byte[] array) {
+        PrimitiveHeapSort.sort(array, 0, array.length);
+    }
+
+    /**
+     * Возвращает перестановку индексов, упорядочивающую ключи по возрастанию.
+     * Сам массив ключей не меняется.
+     *
+     * @param keys массив ключей
+     * @return массив индексов, такой что keys[result[i]] не убывает
+     */
+    public static int[] argsort(int[] keys) {
+        int[] indices = new int[keys.length];
+        ArgSort.argsort(keys, indices, false);
+        return indices;
+    }
+
+    /**
+     * Записывает в indices перестановку, упорядочивающую ключи по возрастанию.
+     * В устойчивом режиме индексы равных ключей идут в исходном порядке.
+     *
+     * @param keys массив ключей
+     * @param indices буфер для перестановки той же длины, что и keys
+     * @param stable сохранять ли исходный порядок равных ключей
+     * @throws IllegalArgumentException если длины массивов различаются
+     */
+    public static void argsort(int[] keys, int[] indices, boolean stable) {
+        ArgSort.argsort(keys, indices, stable);
+    }
+
+    /**
+     * Начинает совместную сортировку ключей и колонок данных.
+     * Колонки регистрируются методами payload, сортировка запускается методом sort.
+     *
+     * @param keys колонка ключей
+     * @return объект для регистрации колонок
+     */
+    public static ColumnSort columns(int[] keys) {
+        return new ColumnSort(keys);
+    }
+
+    /**
+     * Сортирует на месте элементы буфера от position до limit.
+     * Прямые буферы сортируются без копирования в кучу Java.
+     *
+     * @param buffer буфер для сортировки
+     * @throws java.nio.ReadOnlyBufferException если буфер только для чтения
+     */
+    public static void sort(IntBuffer buffer) {
+        BufferHeapSort.sort(buffer);
+    }
+
+    /**
+     * Сортирует последовательность буферов как один массив с индексами long,
+     * что позволяет сортировать на месте больше 2^31 элементов вне кучи Java.
+     * Учитываются элементы каждого буфера от position до limit. Все буферы, кроме
+     * последнего, должны содержать одинаковое число элементов, равное степени двойки,
+     * последний может быть короче.
+     *
+     * @param segments буферы в порядке следования
+     * @throws IllegalArgumentException если размеры сегментов не подходят
+     */
+    public static void sortSegments(IntBuffer[] segments) {
+        BufferHeapSort.sort(segments);
+    }
+
+    /**
+     * Сортирует на месте массив с индексами long пирамидальной сортировкой.
+     *
+     * @param array массив для сортировки
+     */
+    public static void sort(BigIntArray array) {
+        BigArraySort.sort(array);
+    }
+
+    /**
+     * Параллельная сортировка массива с индексами long в общем пуле ForkJoinPool.
+     * Сегменты сортируются параллельно и сливаются в новые сегменты,
+     * поэтому на время сортировки нужна память ещё на один такой массив.
+     *
+     * @param array массив для сортировки
+     */
+    public static void parallelSort(BigIntArray array) {
+        BigArraySort.parallelSort(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Параллельная сортировка массива с индексами long в заданном пуле.
+     *
+     * @param array массив для сортировки
+     * @param pool пул потоков
+     */
+    public static void parallelSort(BigIntArray array, ForkJoinPool pool) {
+        BigArraySort.parallelSort(array, pool);
+    }
+
+    /**
+     * Сортирует массив объектов в порядке, задаваемом компаратором.
+     *
+     * @param <T> тип элементов
+     * @param array массив для сортировки
+     * @param comparator компаратор
+     */
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        ObjectHeapSort.sort(array, comparator);
+    }
+
+    /**
+     * Сортирует массив объектов заданным способом просеивания.
+     * При дорогом компараторе BOTTOM_UP вызывает его примерно вдвое реже.
+     *
+     * @param <T> тип элементов
+     * @param array массив для сортировки
+     * @param comparator компаратор
+     * @param strategy способ просеивания
+     * @return число вызовов компаратора
+     */
+    public static <T> long sort(T[] array, Comparator<? super T> comparator,
+                                SiftStrategy strategy) {
+        return SiftHeapSort.sort(array, comparator, strategy);
+    }
+
+    /**
+     * Сортирует массив объектов по целочисленному ключу.
+     * Ключ извлекается из каждого элемента ровно один раз.
+     *
+     * @param <T> тип элементов
+     * @param array массив для сортировки
+     * @param keyExtractor функция получения ключа
+     */
+    public static <T> void sortByInt(T[] array, ToIntFunction<? super T> keyExtractor) {
+        ObjectHeapSort.sortByInt(array, keyExtractor);
+    }
+
+    /**
+     * Устойчиво сортирует массив объектов по ключу типа int: объекты с равными
+     * ключами сохраняют исходный порядок. Ключ и индекс упаковываются в одно число
+     * long, поэтому нужно 8 байт дополнительной памяти на элемент, а для длинных
+     * массивов, сортируемых поразрядно, — 16 байт.
+     *
+     * @param <T> тип элементов
+     * @param array массив для сортировки
+     * @param keyExtractor функция получения ключа
+     */
+    public static <T> void stableSortByInt(T[] array, ToIntFunction<? super T> keyExtractor) {
+        StableSort.sortByInt(array, keyExtractor);
+    }
+
+    /**
+     * Сортирует массив объектов по ключу типа long.
+     * Ключ извлекается из каждого элемента ровно один раз.
+     *
+     * @param <T> тип элементов
+     * @param array массив для сортировки
+     * @param keyExtractor функция получения ключа
+     */
+    public static <T> void sortByLong(T[] array, ToLongFunction<? super T> keyExtractor) {
+        ObjectHeapSort.sortByLong(array, keyExtractor);
+    }
+
+    /**
+     * Возвращает k наименьших чисел массива по возрастанию, не меняя массив.
+     * Работает за O(n log k) и использует O(k) памяти.
+     *
+     * @param array исходный массив
+     * @param k сколько чисел вернуть
+     * @return новый массив из min(k, array.length) чисел
+     * @throws IllegalArgumentException если k отрицательно
+     */
+    public static int[] topK(int[] array, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k не может быть отрицательным: " + k);
+        }
+        return new IntTopK(Math.min(k, array.length))
+                .addAll(array, 0, array.length)
+                .toSortedArray();
+    }
+
+    /**
+     * Сортирует каждый из массивов в общем пуле ForkJoinPool.
+     * Короткие массивы объединяются в задачи по нескольку тысяч элементов,
+     * чтобы накладные расходы на задачу не превышали саму сортировку.
+     *
+     * @param arrays массивы для сортировки
+     */
+    public static void sortAll(int[][] arrays) {
+        BatchSort.sortAll(arrays, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Сортирует каждый из массивов в заданном пуле.
+     *
+     * @param arrays массивы для сортировки
+     * @param pool пул потоков
+     */
+    public static void sortAll(int[][] arrays, ForkJoinPool pool) {
+        BatchSort.sortAll(arrays, pool);
+    }
+
+    /**
+     * Сортирует независимо каждый отрезок общего буфера в общем пуле ForkJoinPool.
+     * Отрезок i — это [offsets[i], offsets[i + 1]).
+     *
+     * @param data общий буфер
+     * @param offsets неубывающие границы отрезков
+     * @throws IllegalArgumentException если границы убывают или выходят за буфер
+     */
+    public static void sortAll(int[] data, int[] offsets) {
+        BatchSort.sortAll(data, offsets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Сортирует независимо каждый отрезок общего буфера в заданном пуле.
+     *
+     * @param data общий буфер
+     * @param offsets неубывающие границы отрезков
+     * @param pool пул потоков
+     * @throws IllegalArgumentException если границы убывают или выходят за буфер
+     */
+    public static void sortAll(int[] data, int[] offsets, ForkJoinPool pool) {
+        BatchSort.sortAll(data, offsets, pool);
+    }
+
+    /**
+     * Сливает отсортированные массивы в один отсортированный массив.
+     *
+     * @param runs массивы, каждый отсортирован по возрастанию
+     * @return новый массив со всеми числами
+     * @throws IllegalArgumentException если суммарная длина не помещается в массив
+     */
+    public static int[] mergeSorted(int[][] runs) {
+        return RunMerger.merge(runs);
+    }
+
+    /**
+     * Параллельно сливает отсортированные массивы в общем пуле ForkJoinPool.
+     * Выход делится на части по числу потоков пула, и границы частей находятся
+     * двоичным поиском во всех массивах.
+     *
+     * @param runs массивы, каждый отсортирован по возрастанию
+     * @return новый массив со всеми числами
+     */
+    public static int[] parallelMergeSorted(int[][] runs) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        return RunMerger.parallelMerge(runs, pool, pool.getParallelism());
+    }
+
+    /**
+     * Параллельно сливает отсортированные массивы, деля выход на parts частей.
+     *
+     * @param runs массивы, каждый отсортирован по возрастанию
+     * @param pool пул потоков
+     * @param parts число частей выхода
+     * @return новый массив со всеми числами
+     * @throws IllegalArgumentException если parts меньше 1
+     */
+    public static int[] parallelMergeSorted(int[][] runs, ForkJoinPool pool, int parts) {
+        return RunMerger.parallelMerge(runs, pool, parts);
+    }
+
+    /**
+     * Находит k-й по возрастанию элемент, считая с нуля, без полной сортировки.
+     * После вызова он стоит на месте k, слева от него элементы не больше,
+     * справа не меньше. В среднем O(n), в худшем случае O(n log n).
+     *
+     * @param array массив, который будет частично упорядочен
+     * @param k ранг элемента
+     * @return k-й по возрастанию элемент
+     * @throws IndexOutOfBoundsException если k вне массива
+     */
+    public static int select(int[] array, int k) {
+        Objects.checkIndex(k, array.length);
+        return Selection.select(array, k);
+    }
+
+    /**
+     * Вычисляет несколько перцентилей за один проход частичного упорядочивания.
+     * Перцентиль p — элемент с рангом ceil(p / 100 * n) - 1 (метод ближайшего ранга).
+     *
+     * @param array массив, который будет частично упорядочен
+     * @param percents перцентили от 0 до 100, например 50 и 99
+     * @return значения перцентилей в том же порядке
+     * @throws IllegalArgumentException если массив пуст или перцентиль вне [0, 100]
+     */
+    public static int[] percentiles(int[] array, double... percents) {
+        return Selection.percentiles(array, percents);
+    }
+
+    /**
+     * Параллельная сортировка в общем пуле ForkJoinPool.
+     * Куски массива сортируются пирамидальной сортировкой, затем сливаются.
+     *
+     * @param array массив для сортировки
+     */
+    public static void parallelSort(int[] array) {
+        ParallelHeapSort.sort(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Параллельная сортировка в заданном пуле.
+     * Куски не длиннее threshold сортируются последовательно.
+     *
+     * @param array массив для сортировки
+     * @param pool пул потоков
+     * @param threshold максимальный размер куска для последовательной сортировки
+     * @throws IllegalArgumentException если threshold меньше 1
+     */
+    public static void parallelSort(int[] array, ForkJoinPool pool, int threshold) {
+        ParallelHeapSort.sort(array, pool, threshold);
+    }
+
+    static void heapSort(int[] array, int from, int to) {
+        int len = to - from;
+        if (len <= SortingNetwork.MAX_SIZE) {
+            SortingNetwork.sort(array, from, to);
+            return;
+        }
 
         for (int i = len / 2 - 1; i >= 0; i--) {
-            heapify(array, len, i);
+            heapify(array, from, len, i);
         }
 
         for (int i = len - 1; i > 0; i--) {
-            int temp = array[0];
-            array[0] = array[i];
-            array[i] = temp;
+            int temp = array[from];
+            array[from] = array[from + i];
+            array[from + i] = temp;
 
-            heapify(array, i, 0);
+            heapify(array, from, i, 0);
         }
     }
 
-    private static void heapify(int[] array, int len, int root) {
+    static void heapify(int[] array, int from, int len, int root) {
         int cur = root;
 
         while (true) {
@@ -35,18 +556,18 @@ public class Sort {
             int leftChild = 2 * cur + 1;
             int rightChild = 2 * cur + 2;
 
-            if (leftChild < len && array[leftChild] > array[largest]) {
+            if (leftChild < len && array[from + leftChild] > array[from + largest]) {
                 largest = leftChild;
             }
-            if (rightChild < len && array[rightChild] > array[largest]) {
+            if (rightChild < len && array[from + rightChild] > array[from + largest]) {
                 largest = rightChild;
             }
             if (largest == cur) {
                 break;
             }
-            int temp = array[cur];
-            array[cur] = array[largest];
-            array[largest] = temp;
+            int temp = array[from + cur];
+            array[from + cur] = array[from + largest];
+            array[from + largest] = temp;
 
             cur = largest;
         }
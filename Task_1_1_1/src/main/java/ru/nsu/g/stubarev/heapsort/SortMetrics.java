@@ -0,0 +1,119 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Счётчики инструментированной сортировки: сравнения, обмены, уровни просеивания
+ * и время вызовов. Счётчики построены на LongAdder и обновляются без блокировок
+ * один раз в конце вызова. Содержимое можно получить в виде JSON или через JMX.
+ */
+public class SortMetrics implements SortMetricsMBean {
+    private static final SortMetrics GLOBAL = new SortMetrics();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder siftLevels = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Общий реестр, в который пишет Sort.sort при включённой инструментации.
+     *
+     * @return общий реестр
+     */
+    public static SortMetrics global() {
+        return GLOBAL;
+    }
+
+    void record(long elements, long comparisons, long swaps, long siftLevels, long nanos) {
+        this.calls.increment();
+        this.elements.add(elements);
+        this.comparisons.add(comparisons);
+        this.swaps.add(swaps);
+        this.siftLevels.add(siftLevels);
+        this.totalNanos.add(nanos);
+        this.maxNanos.accumulate(nanos);
+    }
+
+    @Override
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getElements() {
+        return elements.sum();
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    @Override
+    public long getSiftLevels() {
+        return siftLevels.sum();
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    @Override
+    public void reset() {
+        calls.reset();
+        elements.reset();
+        comparisons.reset();
+        swaps.reset();
+        siftLevels.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /**
+     * Текущие значения счётчиков в виде объекта JSON.
+     *
+     * @return строка JSON
+     */
+    public String toJson() {
+        return "{\"calls\":" + getCalls()
+                + ",\"elements\":" + getElements()
+                + ",\"comparisons\":" + getComparisons()
+                + ",\"swaps\":" + getSwaps()
+                + ",\"siftLevels\":" + getSiftLevels()
+                + ",\"totalNanos\":" + getTotalNanos()
+                + ",\"maxNanos\":" + getMaxNanos()
+                + "}";
+    }
+
+    /**
+     * Регистрирует реестр в платформенном MBeanServer.
+     *
+     * @param name имя объекта, например ru.nsu.g.stubarev.heapsort:type=SortMetrics
+     * @throws IllegalStateException если регистрация не удалась
+     */
+    public void registerMBean(String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(name));
+        } catch (JMException e) {
+            throw new IllegalStateException("Не удалось зарегистрировать MBean " + name, e);
+        }
+    }
+}
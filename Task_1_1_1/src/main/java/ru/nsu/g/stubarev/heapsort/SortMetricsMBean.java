@@ -0,0 +1,61 @@
+package ru.nsu.g.stubarev.heapsort;
+
+/**
+ * JMX-интерфейс счётчиков сортировки.
+ */
+public interface SortMetricsMBean {
+
+    /**
+     * Число вызовов сортировки.
+     *
+     * @return число вызовов
+     */
+    long getCalls();
+
+    /**
+     * Суммарное число отсортированных элементов.
+     *
+     * @return число элементов
+     */
+    long getElements();
+
+    /**
+     * Суммарное число сравнений.
+     *
+     * @return число сравнений
+     */
+    long getComparisons();
+
+    /**
+     * Суммарное число обменов.
+     *
+     * @return число обменов
+     */
+    long getSwaps();
+
+    /**
+     * Суммарное число уровней, пройденных при просеивании.
+     *
+     * @return число уровней
+     */
+    long getSiftLevels();
+
+    /**
+     * Суммарное время сортировки в наносекундах.
+     *
+     * @return время
+     */
+    long getTotalNanos();
+
+    /**
+     * Наибольшее время одного вызова в наносекундах.
+     *
+     * @return время
+     */
+    long getMaxNanos();
+
+    /**
+     * Обнуляет счётчики.
+     */
+    void reset();
+}
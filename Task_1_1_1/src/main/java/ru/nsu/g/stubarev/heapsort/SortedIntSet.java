@@ -0,0 +1,191 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.Arrays;
+
+/**
+ * Неизменяемое множество целых чисел в виде отсортированного массива без повторов.
+ * Поиск идёт галопом: шаг удваивается, пока не перескочит искомое число,
+ * затем найденный отрезок делится пополам. Поиск числа на позиции i занимает
+ * O(log i), поэтому при пересечении и объединении, где каждый следующий поиск
+ * начинается с места предыдущего, длинные отрезки без совпадений пропускаются
+ * за логарифмическое время, а при объединении копируются целиком.
+ */
+public final class SortedIntSet {
+    private static final SortedIntSet EMPTY = new SortedIntSet(new int[0]);
+
+    private final int[] values;
+
+    private SortedIntSet(int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Строит множество из чисел в любом порядке, в том числе с повторами.
+     * Переданный массив не меняется.
+     *
+     * @param values числа
+     * @return множество
+     */
+    public static SortedIntSet of(int... values) {
+        int[] copy = values.clone();
+        int count = Sort.sortDistinct(copy);
+        return count == 0 ? EMPTY : new SortedIntSet(trim(copy, count));
+    }
+
+    /**
+     * Возвращает число элементов.
+     *
+     * @return размер множества
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Проверяет, пусто ли множество.
+     *
+     * @return true, если элементов нет
+     */
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * Возвращает элемент по его номеру в порядке возрастания.
+     *
+     * @param index номер элемента
+     * @return элемент
+     * @throws IndexOutOfBoundsException если номер вне множества
+     */
+    public int get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Проверяет принадлежность числа множеству.
+     *
+     * @param value число
+     * @return true, если число есть в множестве
+     */
+    public boolean contains(int value) {
+        int pos = gallop(values, 0, values.length, value);
+        return pos < values.length && values[pos] == value;
+    }
+
+    /**
+     * Пересечение с другим множеством. Каждый элемент меньшего множества
+     * ищется галопом в большем начиная с позиции предыдущей находки.
+     *
+     * @param other другое множество
+     * @return новое множество общих элементов
+     */
+    public SortedIntSet intersect(SortedIntSet other) {
+        int[] small = values.length <= other.values.length ? values : other.values;
+        int[] large = small == values ? other.values : values;
+        int[] out = new int[small.length];
+        int count = 0;
+        int pos = 0;
+        for (int value : small) {
+            pos = gallop(large, pos, large.length, value);
+            if (pos == large.length) {
+                break;
+            }
+            if (large[pos] == value) {
+                out[count++] = value;
+                pos++;
+            }
+        }
+        if (count == small.length) {
+            return small == values ? this : other;
+        }
+        return count == 0 ? EMPTY : new SortedIntSet(trim(out, count));
+    }
+
+    /**
+     * Объединение с другим множеством. Отрезки одного множества, лежащие целиком
+     * между соседними элементами другого, находятся галопом и копируются целиком.
+     *
+     * @param other другое множество
+     * @return новое множество элементов обоих
+     */
+    public SortedIntSet union(SortedIntSet other) {
+        int[] a = values;
+        int[] b = other.values;
+        if (b.length == 0) {
+            return this;
+        }
+        if (a.length == 0) {
+            return other;
+        }
+        int[] out = new int[a.length + b.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            int end = gallop(a, i, a.length, b[j]);
+            System.arraycopy(a, i, out, count, end - i);
+            count += end - i;
+            i = end;
+            if (i == a.length) {
+                break;
+            }
+            end = gallop(b, j, b.length, a[i]);
+            System.arraycopy(b, j, out, count, end - j);
+            count += end - j;
+            j = end;
+            if (j < b.length && b[j] == a[i]) {
+                j++;
+            }
+        }
+        System.arraycopy(a, i, out, count, a.length - i);
+        count += a.length - i;
+        System.arraycopy(b, j, out, count, b.length - j);
+        count += b.length - j;
+        return new SortedIntSet(trim(out, count));
+    }
+
+    /**
+     * Возвращает элементы по возрастанию.
+     *
+     * @return новый массив элементов
+     */
+    public int[] toArray() {
+        return values.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SortedIntSet && Arrays.equals(values, ((SortedIntSet) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    private static int[] trim(int[] array, int count) {
+        return count == array.length ? array : Arrays.copyOf(array, count);
+    }
+
+    /**
+     * Находит первую позицию в [from, to), где элемент не меньше key.
+     */
+    static int gallop(int[] array, int from, int to, int key) {
+        if (from >= to || array[from] >= key) {
+            return from;
+        }
+        int lo = from;
+        long step = 1;
+        while (lo + step < to && array[(int) (lo + step)] < key) {
+            lo += (int) step;
+            step <<= 1;
+        }
+        int hi = (int) Math.min(to, lo + step);
+        return ParallelHeapSort.lowerBound(array, lo + 1, hi, key);
+    }
+}
@@ -0,0 +1,96 @@
+package ru.nsu.g.stubarev.heapsort;
+
+/**
+ * Битоническая сортирующая сеть для коротких отрезков, до 64 элементов.
+ * Последовательность сравнений-обменов не зависит от данных: ветвления цикла
+ * зависят только от индексов. Обмен для int записан через Math.min и Math.max
+ * и ветвлений по данным не содержит; обмен для float сравнивает через Float.compare
+ * и ветвится по результату.
+ * Длина дополняется до степени двойки воображаемыми элементами, равными +∞:
+ * сравнения с ними ничего не меняют и просто пропускаются.
+ * Если JVM запущена с --add-modules jdk.incubator.vector и вектор вмещает хотя бы
+ * 4 числа int, сеть для int на отрезках от {@link #VECTOR_MIN_SIZE} элементов
+ * выполняется в {@link VectorSortingNetwork}, иначе работает скалярный вариант ниже.
+ */
+final class SortingNetwork {
+    static final int MAX_SIZE = 64;
+    /** На 8 элементах скалярная сеть ещё быстрее векторной, с 16 уже медленнее. */
+    static final int VECTOR_MIN_SIZE = 16;
+
+    static final boolean VECTORIZED = ModuleLayer.boot()
+            .findModule("jdk.incubator.vector").isPresent()
+            && VectorSortingNetwork.LANES >= 4;
+
+    private SortingNetwork() {
+    }
+
+    static void sort(int[] array, int from, int to) {
+        if (VECTORIZED && to - from >= VECTOR_MIN_SIZE) {
+            VectorSortingNetwork.sort(array, from, to);
+            return;
+        }
+        sortScalar(array, from, to);
+    }
+
+    static void sortScalar(int[] array, int from, int to) {
+        int len = to - from;
+        int size = Integer.highestOneBit(Math.max(1, len - 1)) << 1;
+        for (int k = 2; k <= size; k <<= 1) {
+            for (int i = 0; i < len; i++) {
+                int partner = i ^ (k - 1);
+                if (partner > i && partner < len) {
+                    exchange(array, from + i, from + partner);
+                }
+            }
+            for (int j = k >> 2; j > 0; j >>= 1) {
+                for (int i = 0; i < len; i++) {
+                    int partner = i ^ j;
+                    if (partner > i && partner < len) {
+                        exchange(array, from + i, from + partner);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void exchange(int[] array, int i, int j) {
+        int a = array[i];
+        int b = array[j];
+        array[i] = Math.min(a, b);
+        array[j] = Math.max(a, b);
+    }
+
+    static void sort(float[] array, int from, int to) {
+        int len = to - from;
+        int size = Integer.highestOneBit(Math.max(1, len - 1)) << 1;
+        for (int k = 2; k <= size; k <<= 1) {
+            for (int i = 0; i < len; i++) {
+                int partner = i ^ (k - 1);
+                if (partner > i && partner < len) {
+                    exchange(array, from + i, from + partner);
+                }
+            }
+            for (int j = k >> 2; j > 0; j >>= 1) {
+                for (int i = 0; i < len; i++) {
+                    int partner = i ^ j;
+                    if (partner > i && partner < len) {
+                        exchange(array, from + i, from + partner);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Обмен в порядке Float.compare: Math.min не подходит, так как для NaN
+     * он возвращает NaN и теряет второе значение.
+     */
+    private static void exchange(float[] array, int i, int j) {
+        float a = array[i];
+        float b = array[j];
+        if (Float.compare(a, b) > 0) {
+            array[i] = b;
+            array[j] = a;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Устойчивая сортировка по ключу int через упаковку ключа и индекса в одно число long:
+ * ключ занимает старшие 32 бита, исходный индекс — младшие. Все упакованные числа
+ * различны, и их порядок совпадает с порядком ключей, а при равных ключах — индексов,
+ * поэтому неустойчивая сортировка long даёт устойчивый результат.
+ * Короткие массивы сортируются пирамидальной сортировкой, длинные поразрядной.
+ * Дополнительная память — 8 байт на элемент, для поразрядной ещё столько же.
+ */
+final class StableSort {
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+    private StableSort() {
+    }
+
+    static <T> void sortByInt(T[] array, ToIntFunction<? super T> keyExtractor) {
+        int len = array.length;
+        long[] packed = new long[len];
+        for (int i = 0; i < len; i++) {
+            packed[i] = (long) keyExtractor.applyAsInt(array[i]) << Integer.SIZE | i;
+        }
+        sortPacked(packed);
+        T[] source = array.clone();
+        for (int i = 0; i < len; i++) {
+            array[i] = source[(int) (packed[i] & INDEX_MASK)];
+        }
+    }
+
+    private static void sortPacked(long[] packed) {
+        if (packed.length < Sort.LONG_RADIX_THRESHOLD) {
+            PrimitiveHeapSort.sort(packed, 0, packed.length);
+        } else {
+            new RadixSorter().sort(packed);
+        }
+    }
+}
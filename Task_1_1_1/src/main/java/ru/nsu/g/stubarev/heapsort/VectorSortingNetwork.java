@@ -0,0 +1,123 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import java.util.Arrays;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Та же битоническая сеть, что и в {@link SortingNetwork}, на Vector API.
+ * Отрезок копируется в буфер, дополненный значениями Integer.MAX_VALUE
+ * до степени двойки и не меньше длины вектора. Шаги с расстоянием не меньше
+ * длины вектора сравнивают целые векторы через min и max, более короткие
+ * переставляют дорожки одного вектора и выбирают минимум или максимум по маске.
+ * Класс загружается, только если модуль jdk.incubator.vector подключён.
+ */
+final class VectorSortingNetwork {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    static final int LANES = SPECIES.length();
+
+    /** Перестановки lane ^ j для j = 2^t, t = 0 .. log2(LANES) - 1. */
+    private static final VectorShuffle<Integer>[] XOR = shuffles(false);
+    /** Перестановки lane ^ (2j - 1) для тех же j, последняя — разворот вектора. */
+    private static final VectorShuffle<Integer>[] FLIP = shuffles(true);
+    /** Дорожки с нулевым битом j: в паре они младшие и получают минимум. */
+    private static final VectorMask<Integer>[] LOWER = lowerMasks();
+
+    private VectorSortingNetwork() {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VectorShuffle<Integer>[] shuffles(boolean flip) {
+        int levels = Integer.numberOfTrailingZeros(LANES);
+        VectorShuffle<Integer>[] result = new VectorShuffle[levels];
+        for (int t = 0; t < levels; t++) {
+            int bits = flip ? (2 << t) - 1 : 1 << t;
+            result[t] = VectorShuffle.fromOp(SPECIES, lane -> lane ^ bits);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VectorMask<Integer>[] lowerMasks() {
+        int levels = Integer.numberOfTrailingZeros(LANES);
+        VectorMask<Integer>[] result = new VectorMask[levels];
+        for (int t = 0; t < levels; t++) {
+            boolean[] lower = new boolean[LANES];
+            for (int lane = 0; lane < LANES; lane++) {
+                lower[lane] = (lane & (1 << t)) == 0;
+            }
+            result[t] = VectorMask.fromArray(SPECIES, lower, 0);
+        }
+        return result;
+    }
+
+    static void sort(int[] array, int from, int to) {
+        int len = to - from;
+        int size = Math.max(LANES, Integer.highestOneBit(Math.max(1, len - 1)) << 1);
+        int[] buffer = new int[size];
+        System.arraycopy(array, from, buffer, 0, len);
+        Arrays.fill(buffer, len, size, Integer.MAX_VALUE);
+
+        for (int k = 2; k <= size; k <<= 1) {
+            if (k <= LANES) {
+                exchangeLanes(buffer, size, FLIP, Integer.numberOfTrailingZeros(k) - 1);
+            } else {
+                flipVectors(buffer, size, k);
+            }
+            for (int j = k >> 2; j > 0; j >>= 1) {
+                if (j < LANES) {
+                    exchangeLanes(buffer, size, XOR, Integer.numberOfTrailingZeros(j));
+                } else {
+                    exchangeVectors(buffer, size, j);
+                }
+            }
+        }
+        System.arraycopy(buffer, 0, array, from, len);
+    }
+
+    /**
+     * Сравнение дорожек внутри каждого вектора: в паре с разницей в бите t
+     * младшая дорожка получает минимум.
+     */
+    private static void exchangeLanes(int[] buffer, int size, VectorShuffle<Integer>[] partners,
+                                      int t) {
+        for (int i = 0; i < size; i += LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, buffer, i);
+            IntVector partner = v.rearrange(partners[t]);
+            v.max(partner).blend(v.min(partner), LOWER[t]).intoArray(buffer, i);
+        }
+    }
+
+    /**
+     * Первый шаг этапа k при k > LANES: элемент i сравнивается с i ^ (k - 1),
+     * то есть вектор — с развёрнутым парным вектором.
+     */
+    private static void flipVectors(int[] buffer, int size, int k) {
+        VectorShuffle<Integer> reverse = FLIP[FLIP.length - 1];
+        int high = (k - 1) & -LANES;
+        for (int i = 0; i < size; i += LANES) {
+            int pair = i ^ high;
+            if (pair < i) {
+                continue;
+            }
+            IntVector a = IntVector.fromArray(SPECIES, buffer, i);
+            IntVector b = IntVector.fromArray(SPECIES, buffer, pair).rearrange(reverse);
+            a.min(b).intoArray(buffer, i);
+            a.max(b).rearrange(reverse).intoArray(buffer, pair);
+        }
+    }
+
+    private static void exchangeVectors(int[] buffer, int size, int j) {
+        for (int i = 0; i < size; i += LANES) {
+            if ((i & j) != 0) {
+                continue;
+            }
+            IntVector a = IntVector.fromArray(SPECIES, buffer, i);
+            IntVector b = IntVector.fromArray(SPECIES, buffer, i + j);
+            a.min(b).intoArray(buffer, i);
+            a.max(b).intoArray(buffer, i + j);
+        }
+    }
+}
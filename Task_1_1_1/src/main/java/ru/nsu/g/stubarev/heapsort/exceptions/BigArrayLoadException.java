@@ -0,0 +1,26 @@
+package ru.nsu.g.stubarev.heapsort.exceptions;
+
+/**
+ * Исключение, возникающее при ошибке загрузки большого массива из файла.
+ */
+public class BigArrayLoadException extends RuntimeException {
+
+    /**
+     * Создаёт исключение с сообщением.
+     *
+     * @param message описание ошибки
+     */
+    public BigArrayLoadException(String message) {
+        super(message);
+    }
+
+    /**
+     * Создаёт исключение с сообщением и причиной.
+     *
+     * @param message описание ошибки
+     * @param cause исходное исключение
+     */
+    public BigArrayLoadException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
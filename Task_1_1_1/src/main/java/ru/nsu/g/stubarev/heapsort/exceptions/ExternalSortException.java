@@ -0,0 +1,26 @@
+package ru.nsu.g.stubarev.heapsort.exceptions;
+
+/**
+ * Исключение, возникающее при ошибке внешней сортировки файла.
+ */
+public class ExternalSortException extends RuntimeException {
+
+    /**
+     * Создаёт исключение с сообщением.
+     *
+     * @param message описание ошибки
+     */
+    public ExternalSortException(String message) {
+        super(message);
+    }
+
+    /**
+     * Создаёт исключение с сообщением и причиной.
+     *
+     * @param message описание ошибки
+     * @param cause исходное исключение
+     */
+    public ExternalSortException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
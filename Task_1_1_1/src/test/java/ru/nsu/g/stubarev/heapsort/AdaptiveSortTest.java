@@ -0,0 +1,79 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import ru.nsu.g.stubarev.heapsort.AdaptiveSortStats.Strategy;
+
+class AdaptiveSortTest {
+
+    private static AdaptiveSortStats sortAndCheck(int[] array) {
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        AdaptiveSortStats stats = Sort.adaptiveSort(array);
+        assertArrayEquals(expected, array, stats.toString());
+        return stats;
+    }
+
+    @Test
+    void smallArray() {
+        assertEquals(Strategy.INSERTION, sortAndCheck(new int[]{3, 1, 2}).strategy());
+        assertEquals(Strategy.INSERTION, sortAndCheck(new int[]{}).strategy());
+    }
+
+    @Test
+    void alreadySorted() {
+        int[] array = new int[1000];
+        Arrays.setAll(array, i -> i / 3);
+        AdaptiveSortStats stats = sortAndCheck(array);
+        assertEquals(Strategy.RUN_MERGE, stats.strategy());
+        assertEquals(1, stats.runs());
+    }
+
+    @Test
+    void reversed() {
+        int[] array = new int[1000];
+        Arrays.setAll(array, i -> -i);
+        AdaptiveSortStats stats = sortAndCheck(array);
+        assertEquals(Strategy.RUN_MERGE, stats.strategy());
+        assertEquals(1, stats.runs());
+    }
+
+    @Test
+    void concatenatedRuns() {
+        Random random = new Random(31);
+        int[] array = new int[10_000];
+        for (int run = 0; run < 10; run++) {
+            int[] part = random.ints(1000, 0, 5000).sorted().toArray();
+            System.arraycopy(part, 0, array, run * 1000, 1000);
+        }
+        AdaptiveSortStats stats = sortAndCheck(array);
+        assertEquals(Strategy.RUN_MERGE, stats.strategy());
+        assertEquals(10, stats.runs());
+    }
+
+    @Test
+    void nearlySortedUsesInsertion() {
+        int[] array = new int[10_000];
+        Arrays.setAll(array, i -> i);
+        for (int i = 0; i + 1 < array.length; i += 5) {
+            int temp = array[i];
+            array[i] = array[i + 1];
+            array[i + 1] = temp;
+        }
+        assertEquals(Strategy.INSERTION, sortAndCheck(array).strategy());
+    }
+
+    @Test
+    void randomUsesHeapsort() {
+        Random random = new Random(37);
+        int[] array = new int[10_000];
+        Arrays.setAll(array, i -> random.nextInt());
+        AdaptiveSortStats stats = sortAndCheck(array);
+        assertEquals(Strategy.HEAPSORT, stats.strategy());
+        assertEquals(256, stats.inversionSamples());
+    }
+}
@@ -0,0 +1,53 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ArgSortTest {
+
+    @Test
+    void keysUntouched() {
+        int[] keys = new int[]{30, 10, 20};
+        assertArrayEquals(new int[]{1, 2, 0}, Sort.argsort(keys));
+        assertArrayEquals(new int[]{30, 10, 20}, keys);
+    }
+
+    @Test
+    void emptyKeys() {
+        assertArrayEquals(new int[]{}, Sort.argsort(new int[]{}));
+    }
+
+    @Test
+    void stableTies() {
+        int[] keys = new int[]{2, 1, 2, 1, 2, 1, 0};
+        int[] indices = new int[keys.length];
+        Sort.argsort(keys, indices, true);
+        assertArrayEquals(new int[]{6, 1, 3, 5, 0, 2, 4}, indices);
+    }
+
+    @Test
+    void randomStable() {
+        Random random = new Random(13);
+        int[] keys = new int[5000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(50);
+        }
+        int[] indices = new int[keys.length];
+        Sort.argsort(keys, indices, true);
+        for (int i = 1; i < indices.length; i++) {
+            int prev = indices[i - 1];
+            int cur = indices[i];
+            assertTrue(keys[prev] < keys[cur] || keys[prev] == keys[cur] && prev < cur);
+        }
+    }
+
+    @Test
+    void wrongBufferLength() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Sort.argsort(new int[]{1, 2}, new int[1], false));
+    }
+}
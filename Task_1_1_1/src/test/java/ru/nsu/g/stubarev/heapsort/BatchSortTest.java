@@ -0,0 +1,79 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class BatchSortTest {
+
+    @Test
+    void rangeSort() {
+        int[] array = new int[]{9, 8, 7, 6, 5, 4, 3};
+        Sort.sort(array, 2, 6);
+        assertArrayEquals(new int[]{9, 8, 4, 5, 6, 7, 3}, array);
+    }
+
+    @Test
+    void rangeSortBounds() {
+        int[] array = new int[3];
+        assertThrows(IndexOutOfBoundsException.class, () -> Sort.sort(array, 2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Sort.sort(array, 0, 4));
+    }
+
+    @Test
+    void manySmallArrays() {
+        Random random = new Random(67);
+        int[][] arrays = new int[20_000][];
+        int[][] expected = new int[arrays.length][];
+        for (int i = 0; i < arrays.length; i++) {
+            arrays[i] = random.ints(random.nextInt(100), -50, 50).toArray();
+            expected[i] = arrays[i].clone();
+            Arrays.sort(expected[i]);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Sort.sortAll(arrays, pool);
+        } finally {
+            pool.shutdown();
+        }
+        for (int i = 0; i < arrays.length; i++) {
+            assertArrayEquals(expected[i], arrays[i]);
+        }
+    }
+
+    @Test
+    void flatBufferWithOffsets() {
+        Random random = new Random(71);
+        int[] offsets = new int[5001];
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] = offsets[i - 1] + random.nextInt(40);
+        }
+        int[] data = random.ints(offsets[offsets.length - 1] + 3).toArray();
+        int[] expected = data.clone();
+        for (int i = 0; i + 1 < offsets.length; i++) {
+            Arrays.sort(expected, offsets[i], offsets[i + 1]);
+        }
+        Sort.sortAll(data, offsets);
+        assertArrayEquals(expected, data);
+    }
+
+    @Test
+    void smallBatchAndEmpty() {
+        int[][] arrays = new int[][]{{3, 1, 2}, {}, {5, 4}};
+        Sort.sortAll(arrays);
+        assertArrayEquals(new int[][]{{1, 2, 3}, {}, {4, 5}}, arrays);
+        Sort.sortAll(new int[0], new int[0]);
+    }
+
+    @Test
+    void invalidOffsets() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Sort.sortAll(new int[4], new int[]{0, 3, 2}));
+        assertThrows(IllegalArgumentException.class,
+                () -> Sort.sortAll(new int[4], new int[]{0, 5}));
+    }
+}
@@ -0,0 +1,64 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class BigArraySortTest {
+
+    private static BigIntArray bigArray(int[] values, int shift) {
+        BigIntArray array = new BigIntArray(values.length, shift);
+        for (int i = 0; i < values.length; i++) {
+            array.set(i, values[i]);
+        }
+        return array;
+    }
+
+    private static int[] toArray(BigIntArray array) {
+        int[] values = new int[(int) array.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = array.get(i);
+        }
+        return values;
+    }
+
+    @Test
+    void heapSortAcrossSegments() {
+        Random random = new Random(23);
+        for (int n : new int[]{0, 1, 7, 8, 9, 1000, 20_001}) {
+            int[] values = random.ints(n, -50, 50).toArray();
+            BigIntArray array = bigArray(values, 3);
+            Sort.sort(array);
+            Arrays.sort(values);
+            assertArrayEquals(values, toArray(array));
+        }
+    }
+
+    @Test
+    void singleSegment() {
+        int[] values = {5, -2, 9, 0};
+        BigIntArray array = bigArray(values, 10);
+        Sort.sort(array);
+        assertArrayEquals(new int[]{-2, 0, 5, 9}, toArray(array));
+    }
+
+    @Test
+    void parallelSortAcrossSegments() {
+        Random random = new Random(29);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int n : new int[]{0, 1, 100, 50_000, 123_457}) {
+                int[] values = random.ints(n, 0, n / 3 + 1).toArray();
+                BigIntArray array = bigArray(values, 12);
+                Sort.parallelSort(array, pool);
+                Arrays.sort(values);
+                assertArrayEquals(values, toArray(array));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
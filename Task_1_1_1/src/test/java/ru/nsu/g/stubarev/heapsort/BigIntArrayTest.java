@@ -0,0 +1,89 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.nsu.g.stubarev.heapsort.exceptions.BigArrayLoadException;
+
+class BigIntArrayTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void getSetAcrossSegments() {
+        BigIntArray array = new BigIntArray(37, 3);
+        assertEquals(37, array.length());
+        assertEquals(5, array.segments().length);
+        assertEquals(5, array.segments()[4].length);
+        for (long i = 0; i < 37; i++) {
+            array.set(i, (int) (i * 7));
+        }
+        for (long i = 0; i < 37; i++) {
+            assertEquals(i * 7, array.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(37));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.set(-1, 0));
+    }
+
+    @Test
+    void replaceSegmentsKeepsShape() {
+        BigIntArray array = new BigIntArray(10, 3);
+        assertThrows(IllegalArgumentException.class,
+                () -> array.replaceSegments(new int[][]{new int[8]}));
+        assertThrows(IllegalArgumentException.class,
+                () -> array.replaceSegments(new int[][]{new int[8], new int[3]}));
+        array.replaceSegments(new int[][]{new int[8], new int[]{0, 7}});
+        assertEquals(7, array.get(9));
+    }
+
+    @Test
+    void invalidLength() {
+        assertThrows(IllegalArgumentException.class, () -> new BigIntArray(-1));
+        assertThrows(IllegalArgumentException.class, () -> new BigIntArray(Long.MAX_VALUE));
+    }
+
+    @Test
+    void fromStream() {
+        BigIntArray array = BigIntArray.of(IntStream.range(0, 1000).parallel(), 4);
+        assertEquals(1000, array.length());
+        for (long i = 0; i < 1000; i++) {
+            assertEquals(i, array.get(i));
+        }
+        assertEquals(0, BigIntArray.of(IntStream.empty()).length());
+    }
+
+    @Test
+    void fromFile() throws IOException {
+        Path file = dir.resolve("in.bin");
+        ByteBuffer buffer = ByteBuffer.allocate(100 * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < 100; i++) {
+            buffer.putInt(-i);
+        }
+        Files.write(file, buffer.array());
+
+        BigIntArray array = BigIntArray.read(file, ByteOrder.LITTLE_ENDIAN, 5);
+        assertEquals(100, array.length());
+        for (long i = 0; i < 100; i++) {
+            assertEquals(-i, array.get(i));
+        }
+    }
+
+    @Test
+    void corruptFile() throws IOException {
+        Path file = dir.resolve("bad.bin");
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(BigArrayLoadException.class, () -> BigIntArray.read(file));
+        assertThrows(BigArrayLoadException.class,
+                () -> BigIntArray.read(dir.resolve("missing.bin")));
+    }
+}
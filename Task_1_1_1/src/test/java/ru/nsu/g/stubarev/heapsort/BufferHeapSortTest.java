@@ -0,0 +1,112 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class BufferHeapSortTest {
+
+    private static IntBuffer direct(int[] values) {
+        IntBuffer buffer = ByteBuffer.allocateDirect(values.length * Integer.BYTES).asIntBuffer();
+        buffer.put(values).flip();
+        return buffer;
+    }
+
+    private static int[] contents(IntBuffer buffer) {
+        int[] values = new int[buffer.remaining()];
+        buffer.duplicate().get(values);
+        return values;
+    }
+
+    @Test
+    void directBuffer() {
+        IntBuffer buffer = direct(new int[]{4, -3, 9, 0, 4, 1});
+        Sort.sort(buffer);
+        assertArrayEquals(new int[]{-3, 0, 1, 4, 4, 9}, contents(buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void onlyRemainingElements() {
+        IntBuffer buffer = direct(new int[]{9, 8, 7, 6, 5, 4});
+        buffer.position(1).limit(5);
+        Sort.sort(buffer);
+        buffer.clear();
+        assertArrayEquals(new int[]{9, 5, 6, 7, 8, 4}, contents(buffer));
+    }
+
+    @Test
+    void directBufferAroundNetworkSize() {
+        Random random = new Random(7);
+        for (int n = SortingNetwork.MAX_SIZE - 1; n <= SortingNetwork.MAX_SIZE + 2; n++) {
+            int[] values = random.ints(n + 2, -50, 50).toArray();
+            IntBuffer buffer = direct(values);
+            buffer.position(1).limit(n + 1);
+            Sort.sort(buffer);
+            buffer.clear();
+            Arrays.sort(values, 1, n + 1);
+            assertArrayEquals(values, contents(buffer), "n " + n);
+        }
+    }
+
+    @Test
+    void heapBufferSlice() {
+        int[] array = new int[]{9, 8, 7, 6, 5, 4};
+        IntBuffer slice = IntBuffer.wrap(array, 2, 3).slice();
+        Sort.sort(slice);
+        assertArrayEquals(new int[]{9, 8, 5, 6, 7, 4}, array);
+    }
+
+    @Test
+    void readOnlyBuffer() {
+        IntBuffer buffer = direct(new int[]{2, 1}).asReadOnlyBuffer();
+        assertThrows(ReadOnlyBufferException.class, () -> Sort.sort(buffer));
+    }
+
+    @Test
+    void segments() {
+        Random random = new Random(9);
+        int[] values = new int[64 * 5 + 17];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1000);
+        }
+        IntBuffer[] segments = new IntBuffer[6];
+        for (int i = 0; i < segments.length; i++) {
+            int from = i * 64;
+            segments[i] = direct(Arrays.copyOfRange(values, from, Math.min(values.length,
+                    from + 64)));
+        }
+
+        Sort.sortSegments(segments);
+
+        int[] actual = new int[values.length];
+        for (int i = 0; i < segments.length; i++) {
+            int[] part = contents(segments[i]);
+            System.arraycopy(part, 0, actual, i * 64, part.length);
+        }
+        Arrays.sort(values);
+        assertArrayEquals(values, actual);
+    }
+
+    @Test
+    void invalidSegments() {
+        IntBuffer[] notPowerOfTwo = new IntBuffer[]{direct(new int[3]), direct(new int[3])};
+        assertThrows(IllegalArgumentException.class, () -> Sort.sortSegments(notPowerOfTwo));
+
+        IntBuffer[] longLast = new IntBuffer[]{direct(new int[2]), direct(new int[4])};
+        assertThrows(IllegalArgumentException.class, () -> Sort.sortSegments(longLast));
+
+        Sort.sortSegments(new IntBuffer[0]);
+
+        IntBuffer[] single = new IntBuffer[]{direct(new int[]{3, 1, 2})};
+        Sort.sortSegments(single);
+        assertArrayEquals(new int[]{1, 2, 3}, contents(single[0]));
+    }
+}
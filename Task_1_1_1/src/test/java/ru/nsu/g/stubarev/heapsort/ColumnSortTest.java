@@ -0,0 +1,64 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ColumnSortTest {
+
+    @Test
+    void payloadFollowsKeys() {
+        int[] keys = new int[]{3, 1, 2};
+        int[] ids = new int[]{30, 10, 20};
+        long[] timestamps = new long[]{300L, 100L, 200L};
+        double[] prices = new double[]{3.5, 1.5, 2.5};
+
+        Sort.columns(keys).payload(ids).payload(timestamps).payload(prices).sort();
+
+        assertArrayEquals(new int[]{1, 2, 3}, keys);
+        assertArrayEquals(new int[]{10, 20, 30}, ids);
+        assertArrayEquals(new long[]{100L, 200L, 300L}, timestamps);
+        assertArrayEquals(new double[]{1.5, 2.5, 3.5}, prices);
+    }
+
+    @Test
+    void randomRowsStayAligned() {
+        Random random = new Random(17);
+        int[] keys = new int[10_000];
+        long[] rows = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(100);
+            rows[i] = ((long) keys[i] << 32) | i;
+        }
+
+        Sort.columns(keys).payload(rows).sort();
+
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(keys[i], (int) (rows[i] >>> 32));
+        }
+        for (int i = 1; i < keys.length; i++) {
+            assertTrue(keys[i - 1] <= keys[i]);
+        }
+    }
+
+    @Test
+    void lengthMismatch() {
+        ColumnSort sort = Sort.columns(new int[]{1, 2});
+        assertThrows(IllegalArgumentException.class, () -> sort.payload(new double[3]));
+    }
+
+    @Test
+    void aliasedColumnsRejected() {
+        int[] keys = {3, 1, 2};
+        int[] ints = new int[3];
+        double[] doubles = new double[3];
+        ColumnSort sort = Sort.columns(keys).payload(ints).payload(doubles);
+        assertThrows(IllegalArgumentException.class, () -> sort.payload(keys));
+        assertThrows(IllegalArgumentException.class, () -> sort.payload(ints));
+        assertThrows(IllegalArgumentException.class, () -> sort.payload(doubles));
+    }
+}
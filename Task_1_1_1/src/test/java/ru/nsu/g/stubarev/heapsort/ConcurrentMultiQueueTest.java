@@ -0,0 +1,89 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentMultiQueueTest {
+
+    @Test
+    void singleQueueIsExact() {
+        ConcurrentMultiQueue queue = new ConcurrentMultiQueue(1);
+        for (long value : new long[]{5, 1, 4, 2, 3}) {
+            queue.offer(value);
+        }
+        assertEquals(5, queue.size());
+        for (long expected = 1; expected <= 5; expected++) {
+            assertEquals(expected, queue.poll(-1));
+        }
+        assertEquals(-1, queue.poll(-1));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void drainsEverything() {
+        ConcurrentMultiQueue queue = new ConcurrentMultiQueue(8);
+        for (long i = 0; i < 1000; i++) {
+            queue.offer(999 - i);
+        }
+        long[] taken = new long[1000];
+        for (int i = 0; i < taken.length; i++) {
+            taken[i] = queue.poll(-1);
+        }
+        Arrays.sort(taken);
+        for (int i = 0; i < taken.length; i++) {
+            assertEquals(i, taken[i]);
+        }
+        assertEquals(-1, queue.poll(-1));
+    }
+
+    @Test
+    void concurrentProducersAndConsumers() throws Exception {
+        ConcurrentMultiQueue queue = new ConcurrentMultiQueue(16);
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long base = (long) t * perThread;
+                results.add(executor.submit(() -> {
+                    long[] taken = new long[perThread];
+                    for (int i = 0; i < perThread; i++) {
+                        queue.offer(base + i);
+                        taken[i] = queue.poll(-1);
+                    }
+                    return taken;
+                }));
+            }
+            long[] all = new long[threads * perThread];
+            int pos = 0;
+            for (Future<long[]> result : results) {
+                long[] taken = result.get();
+                System.arraycopy(taken, 0, all, pos, taken.length);
+                pos += taken.length;
+            }
+            Arrays.sort(all);
+            long[] expected = new long[all.length];
+            Arrays.setAll(expected, i -> i);
+            assertArrayEquals(expected, all);
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void invalidQueueCount() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentMultiQueue(0));
+    }
+}
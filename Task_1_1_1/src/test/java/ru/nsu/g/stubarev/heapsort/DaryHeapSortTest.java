@@ -0,0 +1,40 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DaryHeapSortTest {
+
+    @Test
+    void allAritiesMatchArraysSort() {
+        Random random = new Random(29);
+        for (int arity : new int[]{2, 4, 8}) {
+            for (int n : new int[]{0, 1, 2, 3, 8, 9, 10, 65, 1000, 4097}) {
+                int[] array = new int[n];
+                for (int i = 0; i < n; i++) {
+                    array[i] = random.nextInt(n + 1) - n / 2;
+                }
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+                Sort.sortDary(array, arity);
+                assertArrayEquals(expected, array, "arity " + arity + ", n " + n);
+            }
+        }
+    }
+
+    @Test
+    void reverseArray() {
+        int[] reverseArray = new int[]{9, 8, 7, 6, 5, 4, 3, 2, 1};
+        Sort.sortDary(reverseArray, 8);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9}, reverseArray);
+    }
+
+    @Test
+    void invalidArity() {
+        assertThrows(IllegalArgumentException.class, () -> Sort.sortDary(new int[]{1}, 3));
+    }
+}
@@ -0,0 +1,104 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.nsu.g.stubarev.heapsort.exceptions.ExternalSortException;
+
+class ExternalSortTest {
+
+    @TempDir
+    Path dir;
+
+    private static void writeInts(Path path, int[] values, ByteOrder order) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(order);
+        buffer.asIntBuffer().put(values);
+        Files.write(path, buffer.array());
+    }
+
+    private static int[] readInts(Path path, ByteOrder order) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        int[] values = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).order(order).asIntBuffer().get(values);
+        return values;
+    }
+
+    private static int[] randomInts(int n) {
+        Random random = new Random(5);
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt();
+        }
+        return values;
+    }
+
+    private long filesInDir() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void singleRun() throws IOException {
+        Path input = dir.resolve("in.bin");
+        Path output = dir.resolve("out.bin");
+        writeInts(input, new int[]{3, -1, 2}, ByteOrder.BIG_ENDIAN);
+        new ExternalSort(1 << 20, 4096).sort(input, output);
+        assertArrayEquals(new int[]{-1, 2, 3}, readInts(output, ByteOrder.BIG_ENDIAN));
+    }
+
+    @Test
+    void manyRunsMultiPassMerge() throws IOException {
+        Path input = dir.resolve("in.bin");
+        Path output = dir.resolve("out.bin");
+        int[] values = randomInts(100_000);
+        writeInts(input, values, ByteOrder.LITTLE_ENDIAN);
+
+        new ExternalSort(4096, 1024, ByteOrder.LITTLE_ENDIAN).sort(input, output);
+
+        Arrays.sort(values);
+        assertArrayEquals(values, readInts(output, ByteOrder.LITTLE_ENDIAN));
+        assertEquals(2, filesInDir());
+    }
+
+    @Test
+    void emptyFile() throws IOException {
+        Path input = dir.resolve("in.bin");
+        Path output = dir.resolve("out.bin");
+        Files.write(input, new byte[0]);
+        new ExternalSort(4096, 1024).sort(input, output);
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    void truncatedFile() throws IOException {
+        Path input = dir.resolve("in.bin");
+        Files.write(input, new byte[]{1, 2, 3, 4, 5});
+        ExternalSort sort = new ExternalSort(4096, 1024);
+        assertThrows(ExternalSortException.class, () -> sort.sort(input, dir.resolve("out.bin")));
+    }
+
+    @Test
+    void missingFile() {
+        ExternalSort sort = new ExternalSort(4096, 1024);
+        assertThrows(ExternalSortException.class,
+                () -> sort.sort(dir.resolve("none.bin"), dir.resolve("out.bin")));
+    }
+
+    @Test
+    void invalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSort(4096, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSort(2048, 1024));
+    }
+}
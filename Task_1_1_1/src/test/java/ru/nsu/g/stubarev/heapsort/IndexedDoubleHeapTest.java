@@ -0,0 +1,51 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class IndexedDoubleHeapTest {
+
+    @Test
+    void dijkstraDistances() {
+        double[][] weights = new double[][]{
+            {0, 4, 1, 0},
+            {4, 0, 2, 5},
+            {1, 2, 0, 8},
+            {0, 5, 8, 0}
+        };
+        int n = weights.length;
+        double[] distances = new double[n];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        distances[0] = 0;
+
+        IndexedDoubleHeap heap = new IndexedDoubleHeap(n);
+        for (int v = 0; v < n; v++) {
+            heap.insert(v, distances[v]);
+        }
+        while (!heap.isEmpty()) {
+            int u = heap.pop();
+            for (int v = 0; v < n; v++) {
+                double candidate = distances[u] + weights[u][v];
+                if (weights[u][v] > 0 && heap.contains(v) && candidate < distances[v]) {
+                    distances[v] = candidate;
+                    heap.decreaseKey(v, candidate);
+                }
+            }
+        }
+        assertArrayEquals(new double[]{0, 3, 1, 8}, distances);
+    }
+
+    @Test
+    void negativeZeroAndNaN() {
+        IndexedDoubleHeap heap = new IndexedDoubleHeap(3);
+        heap.insert(0, Double.NaN);
+        heap.insert(1, 0.0);
+        heap.insert(2, -0.0);
+        assertEquals(2, heap.pop());
+        assertEquals(1, heap.pop());
+        assertEquals(0, heap.pop());
+    }
+}
@@ -0,0 +1,102 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IndexedLongHeapTest {
+
+    @Test
+    void decreaseAndIncreaseKey() {
+        IndexedLongHeap heap = new IndexedLongHeap(5);
+        heap.insert(0, 50);
+        heap.insert(1, 10);
+        heap.insert(2, 30);
+        heap.insert(3, 40);
+        assertEquals(1, heap.peekId());
+
+        heap.decreaseKey(3, 5);
+        assertEquals(3, heap.peekId());
+        assertEquals(5, heap.peekPriority());
+
+        heap.increaseKey(3, 100);
+        assertEquals(1, heap.pop());
+        assertEquals(2, heap.pop());
+        assertEquals(0, heap.pop());
+        assertEquals(3, heap.pop());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void removeById() {
+        IndexedLongHeap heap = new IndexedLongHeap(4);
+        heap.insert(0, 3);
+        heap.insert(1, 1);
+        heap.insert(2, 2);
+        assertTrue(heap.remove(1));
+        assertFalse(heap.remove(1));
+        assertFalse(heap.contains(1));
+        assertEquals(2, heap.size());
+        assertEquals(2, heap.pop());
+        heap.insert(1, 0);
+        assertEquals(1, heap.pop());
+    }
+
+    @Test
+    void randomOperationsKeepMinimum() {
+        Random random = new Random(23);
+        int capacity = 200;
+        IndexedLongHeap heap = new IndexedLongHeap(capacity);
+        long[] reference = new long[capacity];
+        boolean[] present = new boolean[capacity];
+        for (int step = 0; step < 20_000; step++) {
+            int id = random.nextInt(capacity);
+            long priority = random.nextInt(1000);
+            if (!present[id]) {
+                heap.insert(id, priority);
+                present[id] = true;
+                reference[id] = priority;
+            } else if (random.nextBoolean()) {
+                if (priority <= reference[id]) {
+                    heap.decreaseKey(id, priority);
+                } else {
+                    heap.increaseKey(id, priority);
+                }
+                reference[id] = priority;
+            } else {
+                heap.remove(id);
+                present[id] = false;
+            }
+            if (!heap.isEmpty()) {
+                long min = Long.MAX_VALUE;
+                for (int i = 0; i < capacity; i++) {
+                    if (present[i]) {
+                        min = Math.min(min, reference[i]);
+                    }
+                }
+                assertEquals(min, heap.peekPriority());
+                assertEquals(min, reference[heap.peekId()]);
+            }
+        }
+    }
+
+    @Test
+    void invalidOperations() {
+        IndexedLongHeap heap = new IndexedLongHeap(2);
+        heap.insert(0, 5);
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(0, 6));
+        assertThrows(IllegalArgumentException.class, () -> heap.increaseKey(0, 4));
+        assertThrows(NoSuchElementException.class, () -> heap.priority(1));
+        heap.clear();
+        assertThrows(NoSuchElementException.class, heap::pop);
+        heap.insert(0, 1);
+        assertEquals(1, heap.priority(0));
+    }
+}
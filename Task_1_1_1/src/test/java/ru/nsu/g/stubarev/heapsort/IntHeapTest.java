@@ -0,0 +1,73 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IntHeapTest {
+
+    @Test
+    void pushPopOrder() {
+        IntHeap heap = new IntHeap(1);
+        for (int value : new int[]{5, -2, 9, 0, -2, 7}) {
+            heap.push(value);
+        }
+        assertEquals(6, heap.size());
+        assertEquals(-2, heap.peek());
+        int[] expected = new int[]{-2, -2, 0, 5, 7, 9};
+        for (int value : expected) {
+            assertEquals(value, heap.pop());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void matchesPriorityQueue() {
+        Random random = new Random(21);
+        IntHeap heap = new IntHeap();
+        PriorityQueue<Integer> reference = new PriorityQueue<>();
+        for (int i = 0; i < 10_000; i++) {
+            int op = random.nextInt(3);
+            if (op == 0 && !reference.isEmpty()) {
+                assertEquals(reference.poll(), heap.pop());
+            } else if (op == 1 && !reference.isEmpty()) {
+                int value = random.nextInt(1000);
+                assertEquals(reference.poll(), heap.replaceTop(value));
+                reference.add(value);
+            } else {
+                int value = random.nextInt(1000);
+                heap.push(value);
+                reference.add(value);
+            }
+            assertEquals(reference.size(), heap.size());
+        }
+    }
+
+    @Test
+    void pushAllAndClear() {
+        IntHeap heap = new IntHeap(0);
+        heap.push(4);
+        heap.pushAll(new int[]{8, 1, 6, 3});
+        assertEquals(1, heap.pop());
+        assertEquals(3, heap.pop());
+        assertEquals(4, heap.pop());
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        heap.push(2);
+        assertEquals(2, heap.peek());
+    }
+
+    @Test
+    void emptyHeap() {
+        IntHeap heap = new IntHeap();
+        assertThrows(NoSuchElementException.class, heap::pop);
+        assertThrows(NoSuchElementException.class, heap::peek);
+        assertThrows(NoSuchElementException.class, () -> heap.replaceTop(1));
+        assertThrows(IllegalArgumentException.class, () -> new IntHeap(-1));
+    }
+}
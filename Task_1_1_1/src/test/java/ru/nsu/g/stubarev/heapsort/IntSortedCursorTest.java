@@ -0,0 +1,49 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IntSortedCursorTest {
+
+    @Test
+    void firstPage() {
+        Random random = new Random(61);
+        int[] array = random.ints(10_000).toArray();
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        IntSortedCursor cursor = new IntSortedCursor(array);
+        int[] page = new int[20];
+        for (int i = 0; i < page.length; i++) {
+            page[i] = cursor.nextInt();
+        }
+        assertArrayEquals(Arrays.copyOf(sorted, 20), page);
+        assertEquals(10_000 - 20, cursor.remaining());
+    }
+
+    @Test
+    void fullTraversalLeavesDescendingArray() {
+        int[] array = new int[]{4, 1, 3, 1, 5};
+        IntSortedCursor cursor = new IntSortedCursor(array);
+        int[] seen = new int[5];
+        for (int i = 0; i < seen.length; i++) {
+            seen[i] = cursor.nextInt();
+        }
+        assertArrayEquals(new int[]{1, 1, 3, 4, 5}, seen);
+        assertArrayEquals(new int[]{5, 4, 3, 1, 1}, array);
+        assertFalse(cursor.hasNext());
+        assertThrows(NoSuchElementException.class, cursor::nextInt);
+    }
+
+    @Test
+    void emptyArray() {
+        assertFalse(new IntSortedCursor(new int[0]).hasNext());
+    }
+}
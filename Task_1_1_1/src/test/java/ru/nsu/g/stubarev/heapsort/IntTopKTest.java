@@ -0,0 +1,59 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class IntTopKTest {
+
+    @Test
+    void topKOfArray() {
+        int[] array = new int[]{9, 4, 7, 1, 8, 1, 3};
+        assertArrayEquals(new int[]{1, 1, 3}, Sort.topK(array, 3));
+        assertArrayEquals(new int[]{9, 4, 7, 1, 8, 1, 3}, array);
+    }
+
+    @Test
+    void kLargerThanArray() {
+        assertArrayEquals(new int[]{-2, 5}, Sort.topK(new int[]{5, -2}, 10));
+        assertArrayEquals(new int[]{}, Sort.topK(new int[]{5, -2}, 0));
+    }
+
+    @Test
+    void negativeK() {
+        assertThrows(IllegalArgumentException.class, () -> Sort.topK(new int[]{1}, -1));
+        assertThrows(IllegalArgumentException.class, () -> new IntTopK(-1));
+    }
+
+    @Test
+    void randomMatchesFullSort() {
+        Random random = new Random(11);
+        int[] array = new int[50_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt();
+        }
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(Arrays.copyOf(sorted, 300), Sort.topK(array, 300));
+    }
+
+    @Test
+    void parallelStream() {
+        IntTopK topK = IntTopK.of(IntStream.range(0, 100_000).map(i -> 99_999 - i).parallel(), 5);
+        assertEquals(5, topK.size());
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, topK.toSortedArray());
+    }
+
+    @Test
+    void bufferAndMerge() {
+        IntTopK first = new IntTopK(3).addAll(IntBuffer.wrap(new int[]{10, 20, 30, 40}));
+        IntTopK second = new IntTopK(3).addAll(IntStream.of(25, 5, 15));
+        assertArrayEquals(new int[]{5, 10, 15}, first.merge(second).toSortedArray());
+    }
+}
@@ -0,0 +1,25 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+class LongHeapTest {
+
+    @Test
+    void timestampsInOrder() {
+        LongHeap heap = new LongHeap();
+        heap.pushAll(new long[]{Long.MAX_VALUE, 1_700_000_000_000L, Long.MIN_VALUE});
+        heap.push(0L);
+        assertEquals(Long.MIN_VALUE, heap.pop());
+        assertEquals(0L, heap.replaceTop(5L));
+        assertEquals(5L, heap.pop());
+        assertEquals(1_700_000_000_000L, heap.pop());
+        assertEquals(Long.MAX_VALUE, heap.pop());
+        assertTrue(heap.isEmpty());
+        assertThrows(NoSuchElementException.class, heap::peek);
+    }
+}
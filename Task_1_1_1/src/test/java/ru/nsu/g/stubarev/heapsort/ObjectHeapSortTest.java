@@ -0,0 +1,71 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ObjectHeapSortTest {
+
+    private record Order(int id, long timestamp) {
+    }
+
+    private static Order[] randomOrders(int n) {
+        Random random = new Random(3);
+        Order[] orders = new Order[n];
+        for (int i = 0; i < n; i++) {
+            orders[i] = new Order(random.nextInt(1000) - 500, random.nextLong());
+        }
+        return orders;
+    }
+
+    @Test
+    void comparator() {
+        String[] array = new String[]{"pear", "apple", "fig", "banana"};
+        Sort.sort(array, Comparator.naturalOrder());
+        assertArrayEquals(new String[]{"apple", "banana", "fig", "pear"}, array);
+
+        Sort.sort(array, Comparator.comparingInt(String::length).reversed());
+        assertEquals(6, array[0].length());
+        assertEquals("fig", array[3]);
+    }
+
+    @Test
+    void intKeyExtractedOncePerElement() {
+        Order[] orders = randomOrders(1000);
+        AtomicInteger calls = new AtomicInteger();
+        Sort.sortByInt(orders, order -> {
+            calls.incrementAndGet();
+            return order.id();
+        });
+        assertEquals(1000, calls.get());
+        for (int i = 1; i < orders.length; i++) {
+            assertTrue(orders[i - 1].id() <= orders[i].id());
+        }
+    }
+
+    @Test
+    void longKey() {
+        Order[] orders = randomOrders(1000);
+        Order[] expected = orders.clone();
+        Arrays.sort(expected, Comparator.comparingLong(Order::timestamp));
+        Sort.sortByLong(orders, Order::timestamp);
+        assertArrayEquals(expected, orders);
+    }
+
+    @Test
+    void emptyAndSingle() {
+        Order[] empty = new Order[0];
+        Sort.sortByInt(empty, Order::id);
+        assertEquals(0, empty.length);
+
+        Order[] single = new Order[]{new Order(1, 2)};
+        Sort.sortByLong(single, Order::timestamp);
+        assertEquals(new Order(1, 2), single[0]);
+    }
+}
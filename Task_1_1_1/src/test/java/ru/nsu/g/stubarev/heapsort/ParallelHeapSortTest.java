@@ -0,0 +1,68 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ParallelHeapSortTest {
+
+    private static int[] randomArray(int n, int bound, long seed) {
+        Random random = new Random(seed);
+        int[] array = new int[n];
+        for (int i = 0; i < n; i++) {
+            array[i] = bound > 0 ? random.nextInt(bound) : random.nextInt();
+        }
+        return array;
+    }
+
+    @Test
+    void emptyArray() {
+        int[] emptyArray = new int[]{};
+        Sort.parallelSort(emptyArray);
+        assertArrayEquals(new int[]{}, emptyArray);
+    }
+
+    @Test
+    void belowThreshold() {
+        int[] array = new int[]{5, -1, 3, 3, 0};
+        Sort.parallelSort(array);
+        assertArrayEquals(new int[]{-1, 0, 3, 3, 5}, array);
+    }
+
+    @Test
+    void largeRandomArray() {
+        int[] array = randomArray(200_000, 0, 1);
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        Sort.parallelSort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void smallThresholdManyDuplicates() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int threshold : new int[]{1, 3}) {
+                for (int n : new int[]{1, 2, 7, 100, 1023, 5000}) {
+                    int[] array = randomArray(n, 10, n);
+                    int[] expected = array.clone();
+                    Arrays.sort(expected);
+                    Sort.parallelSort(array, pool, threshold);
+                    assertArrayEquals(expected, array);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void invalidThreshold() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Sort.parallelSort(new int[]{2, 1}, ForkJoinPool.commonPool(), 0));
+    }
+}
@@ -0,0 +1,66 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveHeapSortTest {
+
+    @Test
+    void longArray() {
+        long[] array = new long[]{Long.MAX_VALUE, 3L, -7L, Long.MIN_VALUE, 3L, 0L};
+        Sort.sort(array);
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -7L, 0L, 3L, 3L, Long.MAX_VALUE}, array);
+    }
+
+    @Test
+    void doubleSpecialValues() {
+        double[] array = new double[]{
+            Double.NaN, 0.0, -0.0, 1.5, Double.NEGATIVE_INFINITY, -0.0, Double.NaN, -2.5
+        };
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+        Sort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void floatSpecialValues() {
+        float[] array = new float[]{0.0f, Float.NaN, -0.0f, Float.POSITIVE_INFINITY, -1f, 0.0f};
+        Sort.sort(array);
+        assertArrayEquals(
+                new float[]{-1f, -0.0f, 0.0f, 0.0f, Float.POSITIVE_INFINITY, Float.NaN},
+                array
+        );
+    }
+
+    @Test
+    void shortCharByteArrays() {
+        short[] shorts = new short[]{Short.MAX_VALUE, -1, Short.MIN_VALUE, 0};
+        Sort.sort(shorts);
+        assertArrayEquals(new short[]{Short.MIN_VALUE, -1, 0, Short.MAX_VALUE}, shorts);
+
+        char[] chars = "heapsort".toCharArray();
+        Sort.sort(chars);
+        assertArrayEquals("aehoprst".toCharArray(), chars);
+
+        byte[] bytes = new byte[]{Byte.MIN_VALUE, 5, -5, Byte.MAX_VALUE, 5};
+        Sort.sort(bytes);
+        assertArrayEquals(new byte[]{Byte.MIN_VALUE, -5, 5, 5, Byte.MAX_VALUE}, bytes);
+    }
+
+    @Test
+    void randomDoublesMatchArraysSort() {
+        Random random = new Random(7);
+        double[] array = new double[10_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(100) == 0 ? Double.NaN : random.nextGaussian();
+        }
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+        Sort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+}
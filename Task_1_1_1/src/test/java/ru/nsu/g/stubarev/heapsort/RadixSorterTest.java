@@ -0,0 +1,66 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RadixSorterTest {
+
+    @Test
+    void intExtremes() {
+        int[] array = new int[]{Integer.MAX_VALUE, 0, -1, Integer.MIN_VALUE, 1, -1};
+        Sort.radixSort(array);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, -1, 0, 1, Integer.MAX_VALUE}, array);
+    }
+
+    @Test
+    void longExtremes() {
+        long[] array = new long[]{Long.MAX_VALUE, 1L << 40, -1L, Long.MIN_VALUE, 0L};
+        Sort.radixSort(array);
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -1L, 0L, 1L << 40, Long.MAX_VALUE}, array);
+    }
+
+    @Test
+    void reusedSorterDifferentSizes() {
+        Random random = new Random(41);
+        RadixSorter sorter = new RadixSorter();
+        for (int n : new int[]{1000, 10, 0, 5000}) {
+            int[] ints = random.ints(n).toArray();
+            int[] expectedInts = ints.clone();
+            Arrays.sort(expectedInts);
+            sorter.sort(ints);
+            assertArrayEquals(expectedInts, ints);
+
+            long[] longs = random.longs(n).toArray();
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedLongs);
+            sorter.sort(longs);
+            assertArrayEquals(expectedLongs, longs);
+        }
+    }
+
+    @Test
+    void constantDigitsSkipped() {
+        int[] array = new int[]{0x300, 0x100, 0x200, 0x100};
+        Sort.radixSort(array);
+        assertArrayEquals(new int[]{0x100, 0x100, 0x200, 0x300}, array);
+
+        int[] same = new int[]{7, 7, 7};
+        Sort.radixSort(same);
+        assertArrayEquals(new int[]{7, 7, 7}, same);
+    }
+
+    @Test
+    void autoSortBothPaths() {
+        Random random = new Random(43);
+        for (int n : new int[]{Sort.RADIX_THRESHOLD - 1, Sort.RADIX_THRESHOLD * 4}) {
+            int[] array = random.ints(n, -100, 100).toArray();
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+            Sort.autoSort(array);
+            assertArrayEquals(expected, array);
+        }
+    }
+}
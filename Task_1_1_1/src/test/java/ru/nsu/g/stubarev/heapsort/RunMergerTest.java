@@ -0,0 +1,86 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class RunMergerTest {
+
+    private static int[][] randomRuns(int count, int maxLength, int bound) {
+        Random random = new Random(59);
+        int[][] runs = new int[count][];
+        for (int i = 0; i < count; i++) {
+            runs[i] = random.ints(random.nextInt(maxLength + 1), -bound, bound).sorted().toArray();
+        }
+        return runs;
+    }
+
+    private static int[] concatSorted(int[][] runs) {
+        return Arrays.stream(runs).flatMapToInt(Arrays::stream).sorted().toArray();
+    }
+
+    @Test
+    void mergeSmallRuns() {
+        int[][] runs = new int[][]{{1, 4, 9}, {}, {2, 2, 10}, {-5}};
+        assertArrayEquals(new int[]{-5, 1, 2, 2, 4, 9, 10}, Sort.mergeSorted(runs));
+        assertArrayEquals(new int[]{}, Sort.mergeSorted(new int[0][]));
+    }
+
+    @Test
+    void mergeManyRuns() {
+        int[][] runs = randomRuns(300, 200, 1000);
+        assertArrayEquals(concatSorted(runs), Sort.mergeSorted(runs));
+    }
+
+    @Test
+    void iterator() {
+        int[][] runs = randomRuns(50, 30, 20);
+        int[] expected = concatSorted(runs);
+        IntMergeIterator iterator = new IntMergeIterator(runs);
+        int[] actual = new int[expected.length];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = iterator.nextInt();
+        }
+        assertArrayEquals(expected, actual);
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    @Test
+    void parallelMergeWithDuplicates() {
+        int[][] runs = randomRuns(40, 500, 10);
+        int[] expected = concatSorted(runs);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int parts : new int[]{1, 2, 7, 64}) {
+                assertArrayEquals(expected, Sort.parallelMergeSorted(runs, pool, parts));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(expected, Sort.parallelMergeSorted(runs));
+    }
+
+    @Test
+    void parallelMergeExtremeValues() {
+        int[][] runs = new int[][]{
+            {Integer.MIN_VALUE, Integer.MIN_VALUE, 0},
+            {Integer.MIN_VALUE, Integer.MAX_VALUE},
+            {Integer.MAX_VALUE, Integer.MAX_VALUE}
+        };
+        assertArrayEquals(concatSorted(runs),
+                Sort.parallelMergeSorted(runs, ForkJoinPool.commonPool(), 4));
+    }
+
+    @Test
+    void invalidParts() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Sort.parallelMergeSorted(new int[][]{{1}}, ForkJoinPool.commonPool(), 0));
+    }
+}
@@ -0,0 +1,64 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SelectionTest {
+
+    @Test
+    void selectPartitionsAroundK() {
+        Random random = new Random(73);
+        for (int n : new int[]{1, 5, 17, 1000, 50_000}) {
+            int[] array = random.ints(n, 0, n / 2 + 1).toArray();
+            int[] sorted = array.clone();
+            Arrays.sort(sorted);
+            int k = random.nextInt(n);
+            assertEquals(sorted[k], Sort.select(array, k));
+            for (int i = 0; i < n; i++) {
+                assertTrue(i < k ? array[i] <= array[k] : array[i] >= array[k]);
+            }
+        }
+    }
+
+    @Test
+    void selectBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Sort.select(new int[3], 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> Sort.select(new int[0], 0));
+    }
+
+    @Test
+    void percentilesNearestRank() {
+        int[] latencies = new int[100];
+        Arrays.setAll(latencies, i -> 100 - i);
+        assertArrayEquals(new int[]{50, 99, 1, 100, 90, 7, 14, 28, 55, 56},
+                Sort.percentiles(latencies, 50, 99, 0, 100, 90, 7, 14, 28, 55, 56));
+    }
+
+    @Test
+    void percentilesAllEqualAndAdversarial() {
+        int[] same = new int[10_000];
+        Arrays.fill(same, 7);
+        assertArrayEquals(new int[]{7, 7}, Sort.percentiles(same, 50, 99.9));
+
+        int[] organPipe = new int[10_000];
+        Arrays.setAll(organPipe, i -> Math.min(i, organPipe.length - i));
+        int[] sorted = organPipe.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(new int[]{sorted[4999], sorted[9899]},
+                Sort.percentiles(organPipe, 50, 99));
+    }
+
+    @Test
+    void invalidPercentiles() {
+        assertThrows(IllegalArgumentException.class, () -> Sort.percentiles(new int[0], 50));
+        assertThrows(IllegalArgumentException.class, () -> Sort.percentiles(new int[]{1}, 101));
+        assertThrows(IllegalArgumentException.class,
+                () -> Sort.percentiles(new int[]{1}, Double.NaN));
+    }
+}
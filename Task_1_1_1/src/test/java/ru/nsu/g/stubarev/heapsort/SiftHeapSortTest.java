@@ -0,0 +1,68 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SiftHeapSortTest {
+
+    private static int[] randomArray(int n, int bound) {
+        Random random = new Random(n);
+        int[] array = new int[n];
+        for (int i = 0; i < n; i++) {
+            array[i] = random.nextInt(bound);
+        }
+        return array;
+    }
+
+    @Test
+    void bothStrategiesSort() {
+        for (SiftStrategy strategy : SiftStrategy.values()) {
+            for (int n : new int[]{0, 1, 2, 3, 10, 1000}) {
+                int[] array = randomArray(n, 20);
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+                Sort.sort(array, strategy);
+                assertArrayEquals(expected, array, strategy + ", n " + n);
+            }
+        }
+    }
+
+    @Test
+    void bottomUpNeedsFewerComparisons() {
+        int[] array = randomArray(100_000, Integer.MAX_VALUE);
+        long classic = Sort.sort(array.clone(), SiftStrategy.CLASSIC);
+        long bottomUp = Sort.sort(array.clone(), SiftStrategy.BOTTOM_UP);
+        assertTrue(bottomUp < classic * 0.65, classic + " vs " + bottomUp);
+    }
+
+    @Test
+    void comparatorCallsCounted() {
+        Integer[] values = Arrays.stream(randomArray(5000, 1000)).boxed().toArray(Integer[]::new);
+        Integer[] expected = values.clone();
+        Arrays.sort(expected, Comparator.reverseOrder());
+
+        AtomicLong calls = new AtomicLong();
+        Comparator<Integer> counting = (a, b) -> {
+            calls.incrementAndGet();
+            return b.compareTo(a);
+        };
+        long reported = Sort.sort(values, counting, SiftStrategy.BOTTOM_UP);
+
+        assertArrayEquals(expected, values);
+        assertEquals(calls.get(), reported);
+    }
+
+    @Test
+    void classicComparatorMatchesPlainSort() {
+        String[] words = new String[]{"d", "a", "c", "b", "a"};
+        Sort.sort(words, Comparator.naturalOrder(), SiftStrategy.CLASSIC);
+        assertArrayEquals(new String[]{"a", "a", "b", "c", "d"}, words);
+    }
+}
@@ -0,0 +1,64 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+class SortMetricsTest {
+
+    @Test
+    void countersForSortedArray() {
+        SortMetrics metrics = new SortMetrics();
+        int[] array = new int[]{1, 2, 3, 4, 5, 6, 7};
+        Sort.sort(array, metrics);
+
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6, 7}, array);
+        assertEquals(1, metrics.getCalls());
+        assertEquals(7, metrics.getElements());
+        assertTrue(metrics.getComparisons() > 0);
+        assertTrue(metrics.getSwaps() >= 6);
+        assertTrue(metrics.getSiftLevels() > 0);
+        assertEquals(metrics.getSwaps() - 6, metrics.getSiftLevels());
+        assertTrue(metrics.getComparisons() >= metrics.getSiftLevels());
+        assertTrue(metrics.getMaxNanos() <= metrics.getTotalNanos());
+    }
+
+    @Test
+    void accumulatesAndResets() {
+        SortMetrics metrics = new SortMetrics();
+        Sort.sort(new int[]{3, 2, 1}, metrics);
+        Sort.sort(new int[]{}, metrics);
+        assertEquals(2, metrics.getCalls());
+        assertEquals(3, metrics.getElements());
+
+        metrics.reset();
+        assertEquals("{\"calls\":0,\"elements\":0,\"comparisons\":0,\"swaps\":0,"
+                + "\"siftLevels\":0,\"totalNanos\":0,\"maxNanos\":0}", metrics.toJson());
+    }
+
+    @Test
+    void exposedViaJmx() throws Exception {
+        SortMetrics metrics = new SortMetrics();
+        String name = "ru.nsu.g.stubarev.heapsort:type=SortMetrics,name=test";
+        metrics.registerMBean(name);
+        Sort.sort(new int[]{1, 2}, metrics);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(name);
+        try {
+            assertEquals(1L, server.getAttribute(objectName, "Calls"));
+            assertEquals(2L, server.getAttribute(objectName, "Elements"));
+            assertEquals(2L, server.getAttribute(objectName, "Swaps"));
+            assertEquals(1L, server.getAttribute(objectName, "SiftLevels"));
+            assertThrows(IllegalStateException.class, () -> metrics.registerMBean(name));
+        } finally {
+            server.unregisterMBean(objectName);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package ru.nsu.g.stubarev.heapsort;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Arrays;
 import java.util.Random;
 import org.junit.jupiter.api.Test;
 
@@ -76,6 +78,15 @@ class SortTest {
         );
     }
 
+    @Test
+    void sortDistinct() {
+        int[] array = new int[]{5, -1, 5, 3, -1, 3, 3, Integer.MIN_VALUE};
+        int count = Sort.sortDistinct(array);
+        assertEquals(4, count);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 3, 5}, Arrays.copyOf(array, count));
+        assertEquals(0, Sort.sortDistinct(new int[]{}));
+    }
+
     @Test
     void timeComplexityAnalysis() {
         System.out.println("=== Time Complexity Analysis ===");
@@ -0,0 +1,78 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SortedIntSetTest {
+
+    private static int[] expected(TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    void buildsSortedDistinct() {
+        int[] source = {4, 1, 4, -7, 1};
+        SortedIntSet set = SortedIntSet.of(source);
+        assertArrayEquals(new int[]{-7, 1, 4}, set.toArray());
+        assertArrayEquals(new int[]{4, 1, 4, -7, 1}, source);
+        assertEquals(3, set.size());
+        assertEquals(1, set.get(1));
+        assertTrue(SortedIntSet.of().isEmpty());
+        assertEquals(SortedIntSet.of(3, 2), SortedIntSet.of(2, 3, 3));
+    }
+
+    @Test
+    void contains() {
+        SortedIntSet set = SortedIntSet.of(IntStream.range(0, 1000).map(i -> i * 3).toArray());
+        for (int i = -5; i < 3010; i++) {
+            assertEquals(i >= 0 && i < 3000 && i % 3 == 0, set.contains(i));
+        }
+        assertFalse(SortedIntSet.of().contains(0));
+        assertTrue(SortedIntSet.of(Integer.MAX_VALUE).contains(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void randomIntersectAndUnion() {
+        Random random = new Random(41);
+        for (int round = 0; round < 50; round++) {
+            int[] a = random.ints(random.nextInt(2000), 0, 5000).toArray();
+            int[] b = random.ints(random.nextInt(50), 0, 5000).toArray();
+            TreeSet<Integer> setA = new TreeSet<>();
+            TreeSet<Integer> setB = new TreeSet<>();
+            IntStream.of(a).forEach(setA::add);
+            IntStream.of(b).forEach(setB::add);
+
+            TreeSet<Integer> common = new TreeSet<>(setA);
+            common.retainAll(setB);
+            TreeSet<Integer> all = new TreeSet<>(setA);
+            all.addAll(setB);
+
+            SortedIntSet x = SortedIntSet.of(a);
+            SortedIntSet y = SortedIntSet.of(b);
+            assertArrayEquals(expected(common), x.intersect(y).toArray());
+            assertArrayEquals(expected(common), y.intersect(x).toArray());
+            assertArrayEquals(expected(all), x.union(y).toArray());
+            assertArrayEquals(expected(all), y.union(x).toArray());
+        }
+    }
+
+    @Test
+    void disjointRangesAndIdentity() {
+        SortedIntSet low = SortedIntSet.of(IntStream.range(0, 10_000).toArray());
+        SortedIntSet high = SortedIntSet.of(IntStream.range(20_000, 30_000).toArray());
+        assertTrue(low.intersect(high).isEmpty());
+        SortedIntSet both = low.union(high);
+        assertEquals(20_000, both.size());
+        assertEquals(20_000, both.get(10_000));
+        assertSame(low, low.union(SortedIntSet.of()));
+        assertSame(high, both.intersect(high));
+    }
+}
@@ -0,0 +1,87 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SortingNetworkTest {
+
+    @Test
+    void everyLengthUpToMax() {
+        Random random = new Random(47);
+        for (int n = 0; n <= SortingNetwork.MAX_SIZE; n++) {
+            for (int round = 0; round < 20; round++) {
+                int[] array = random.ints(n, -8, 8).toArray();
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+                SortingNetwork.sort(array, 0, n);
+                assertArrayEquals(expected, array, "n " + n);
+            }
+        }
+    }
+
+    @Test
+    void scalarEveryLength() {
+        Random random = new Random(59);
+        for (int n = 0; n <= SortingNetwork.MAX_SIZE; n++) {
+            int[] array = random.ints(n).toArray();
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+            SortingNetwork.sortScalar(array, 0, n);
+            assertArrayEquals(expected, array, "n " + n);
+        }
+    }
+
+    @Test
+    void vectorEveryLength() {
+        assumeTrue(SortingNetwork.VECTORIZED);
+        Random random = new Random(61);
+        for (int n = 0; n <= 4 * SortingNetwork.MAX_SIZE; n++) {
+            for (int round = 0; round < 5; round++) {
+                int[] array = new int[n + 2];
+                for (int i = 0; i < array.length; i++) {
+                    int kind = random.nextInt(6);
+                    array[i] = kind == 0 ? Integer.MAX_VALUE : kind == 1 ? Integer.MIN_VALUE
+                            : random.nextInt(2 * n + 1) - n;
+                }
+                int[] expected = array.clone();
+                Arrays.sort(expected, 1, n + 1);
+                VectorSortingNetwork.sort(array, 1, n + 1);
+                assertArrayEquals(expected, array, "n " + n);
+            }
+        }
+    }
+
+    @Test
+    void subRangeOnly() {
+        int[] array = new int[]{9, 5, 4, 3, 2, 1, 0};
+        SortingNetwork.sort(array, 1, 6);
+        assertArrayEquals(new int[]{9, 1, 2, 3, 4, 5, 0}, array);
+    }
+
+    @Test
+    void floatsWithNaN() {
+        Random random = new Random(53);
+        for (int n = 0; n <= SortingNetwork.MAX_SIZE; n++) {
+            float[] array = new float[n];
+            for (int i = 0; i < n; i++) {
+                int kind = random.nextInt(8);
+                array[i] = kind == 0 ? Float.NaN : kind == 1 ? -0.0f : random.nextInt(5);
+            }
+            float[] expected = array.clone();
+            Arrays.sort(expected);
+            Sort.sort(array);
+            assertArrayEquals(expected, array, "n " + n);
+        }
+    }
+
+    @Test
+    void smallArraysThroughSort() {
+        int[] array = new int[]{3, -3, 2, -2, 1, -1, 0};
+        Sort.sort(array);
+        assertArrayEquals(new int[]{-3, -2, -1, 0, 1, 2, 3}, array);
+    }
+}
@@ -0,0 +1,60 @@
+package ru.nsu.g.stubarev.heapsort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class StableSortTest {
+
+    private record Event(int key, int arrival) {
+    }
+
+    private static Event[] events(int n, int distinct, long seed) {
+        Random random = new Random(seed);
+        Event[] events = new Event[n];
+        for (int i = 0; i < n; i++) {
+            events[i] = new Event(random.nextInt(distinct) - distinct / 2, i);
+        }
+        return events;
+    }
+
+    @Test
+    void keepsArrivalOrderOfTies() {
+        int threshold = Sort.LONG_RADIX_THRESHOLD;
+        for (int n : new int[]{0, 1, 10, threshold - 1, threshold, 20_000}) {
+            Event[] events = events(n, 7, n);
+            Event[] expected = events.clone();
+            Arrays.sort(expected, Comparator.comparingInt(Event::key));
+            Sort.stableSortByInt(events, Event::key);
+            assertArrayEquals(expected, events);
+        }
+    }
+
+    @Test
+    void extremeKeys() {
+        Event[] events = {
+            new Event(Integer.MAX_VALUE, 0), new Event(Integer.MIN_VALUE, 1),
+            new Event(-1, 2), new Event(Integer.MIN_VALUE, 3), new Event(0, 4)
+        };
+        Sort.stableSortByInt(events, Event::key);
+        assertArrayEquals(new int[]{1, 3, 2, 4, 0},
+                Arrays.stream(events).mapToInt(Event::arrival).toArray());
+    }
+
+    @Test
+    void multiPassSortByTwoKeys() {
+        Event[] events = events(5000, 20, 3);
+        Sort.stableSortByInt(events, e -> e.arrival() % 13);
+        Sort.stableSortByInt(events, Event::key);
+        for (int i = 1; i < events.length; i++) {
+            Event prev = events[i - 1];
+            Event cur = events[i];
+            assertTrue(prev.key() < cur.key() || prev.key() == cur.key()
+                    && prev.arrival() % 13 <= cur.arrival() % 13);
+        }
+    }
+}